@@ -0,0 +1,91 @@
+package com.employee.service.service;
+
+import com.employee.service.dto.DepartmentDto;
+import com.employee.service.dto.DepartmentView;
+import com.employee.service.entity.Department;
+import com.employee.service.repository.DepartmentRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of the department DTO conversion, from an entity and from a list projection,
+ * measured through the public service methods over a repository that returns fixed fixtures.
+ * 
+ * @author Department Service Team
+ * @version 1.0.0
+ * @since 2025-12-12
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DepartmentServiceBenchmark {
+
+    private DepartmentService departmentService;
+
+    /**
+     * Build the department fixtures and a service over a repository that returns them.
+     */
+    @Setup
+    public void setUp() {
+        Department department = Department.builder()
+                .id(1L)
+                .name("Engineering")
+                .description("Software development and technology team")
+                .code("ENG")
+                .managerName("John Smith")
+                .managerEmail("john.smith@company.com")
+                .location("Building A, Floor 3")
+                .budget(500000.00)
+                .isActive(true)
+                .createdAt(LocalDate.of(2023, 1, 1))
+                .build();
+        DepartmentView view = new DepartmentView(department.getId(), department.getName(), department.getDescription(),
+                department.getCode(), department.getManagerName(), department.getManagerEmail(),
+                department.getLocation(), department.getBudget(), department.getIsActive(),
+                department.getCreatedAt(), department.getUpdatedAt());
+        DepartmentRepository repository = (DepartmentRepository) Proxy.newProxyInstance(DepartmentRepository.class.getClassLoader(),
+                new Class<?>[] {DepartmentRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.of(department);
+                    case "findAllProjectedBy" -> List.of(view);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        departmentService = new DepartmentService(repository);
+    }
+
+    /**
+     * Load one department by ID, converted from the entity.
+     * 
+     * @return the DTO
+     */
+    @Benchmark
+    public Optional<DepartmentDto> getDepartmentById() {
+        return departmentService.getDepartmentById(1L);
+    }
+
+    /**
+     * List the departments, converted from the list projection.
+     * 
+     * @return the DTOs
+     */
+    @Benchmark
+    public List<DepartmentDto> getAllDepartments() {
+        return departmentService.getAllDepartments();
+    }
+}
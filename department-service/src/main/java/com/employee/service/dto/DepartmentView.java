@@ -0,0 +1,16 @@
+package com.employee.service.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable projection of a department row for list queries.
+ * Built directly by a constructor expression, so no managed entity or dirty-checking snapshot is created.
+ * 
+ * @author Department Service Team
+ * @version 1.0.0
+ * @since 2025-12-12
+ */
+public record DepartmentView(Long id, String name, String description, String code, String managerName,
+                             String managerEmail, String location, Double budget, Boolean isActive,
+                             LocalDate createdAt, LocalDate updatedAt) {
+}
@@ -1,5 +1,6 @@
 package com.employee.service.repository;
 
+import com.employee.service.dto.DepartmentView;
 import com.employee.service.entity.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -19,6 +20,13 @@ import java.util.Optional;
 @Repository
 public interface DepartmentRepository extends JpaRepository<Department, Long> {
 
+    /**
+     * Find all departments as list projections.
+     * 
+     * @return all departments
+     */
+    List<DepartmentView> findAllProjectedBy();
+
     /**
      * Find department by name.
      * 
@@ -41,7 +49,7 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
      * @param isActive the active status
      * @return list of active or inactive departments
      */
-    List<Department> findByIsActive(Boolean isActive);
+    List<DepartmentView> findByIsActive(Boolean isActive);
 
     /**
      * Find departments by location.
@@ -49,7 +57,7 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
      * @param location the location
      * @return list of departments in the location
      */
-    List<Department> findByLocation(String location);
+    List<DepartmentView> findByLocation(String location);
 
     /**
      * Find departments by manager email.
@@ -73,8 +81,10 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
      * @param name the name fragment
      * @return list of departments matching the name fragment
      */
-    @Query("SELECT d FROM Department d WHERE LOWER(d.name) LIKE LOWER(CONCAT('%', :name, '%'))")
-    List<Department> findByNameContainingIgnoreCase(@Param("name") String name);
+    @Query("SELECT new com.employee.service.dto.DepartmentView(d.id, d.name, d.description, d.code, d.managerName, "
+            + "d.managerEmail, d.location, d.budget, d.isActive, d.createdAt, d.updatedAt) FROM Department d "
+            + "WHERE LOWER(d.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    List<DepartmentView> findByNameContainingIgnoreCase(@Param("name") String name);
 
     /**
      * Check if department code exists.
@@ -1,12 +1,14 @@
 package com.employee.service.service;
 
 import com.employee.service.dto.DepartmentDto;
+import com.employee.service.dto.DepartmentView;
 import com.employee.service.entity.Department;
 import com.employee.service.repository.DepartmentRepository;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -37,6 +39,7 @@ public class DepartmentService {
      * @param departmentDto the department data
      * @return the created department
      */
+    @Transactional
     public DepartmentDto createDepartment(DepartmentDto departmentDto) {
         log.info("Creating new department: {}", departmentDto.getName());
         
@@ -72,6 +75,7 @@ public class DepartmentService {
      * @param id the department ID
      * @return the department if found
      */
+    @Transactional(readOnly = true)
     public Optional<DepartmentDto> getDepartmentById(Long id) {
         log.debug("Fetching department with ID: {}", id);
         return departmentRepository.findById(id)
@@ -83,9 +87,10 @@ public class DepartmentService {
      * 
      * @return list of all departments
      */
+    @Transactional(readOnly = true)
     public List<DepartmentDto> getAllDepartments() {
         log.debug("Fetching all departments");
-        return departmentRepository.findAll().stream()
+        return departmentRepository.findAllProjectedBy().stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
@@ -97,6 +102,7 @@ public class DepartmentService {
      * @param departmentDto the updated department data
      * @return the updated department
      */
+    @Transactional
     public DepartmentDto updateDepartment(Long id, DepartmentDto departmentDto) {
         log.info("Updating department with ID: {}", id);
         
@@ -134,6 +140,7 @@ public class DepartmentService {
      * 
      * @param id the department ID
      */
+    @Transactional
     public void deleteDepartment(Long id) {
         log.info("Deleting department with ID: {}", id);
         
@@ -151,6 +158,7 @@ public class DepartmentService {
      * @param location the location
      * @return list of departments in the location
      */
+    @Transactional(readOnly = true)
     public List<DepartmentDto> getDepartmentsByLocation(String location) {
         log.debug("Fetching departments for location: {}", location);
         return departmentRepository.findByLocation(location).stream()
@@ -163,6 +171,7 @@ public class DepartmentService {
      * 
      * @return list of active departments
      */
+    @Transactional(readOnly = true)
     public List<DepartmentDto> getActiveDepartments() {
         log.debug("Fetching active departments");
         return departmentRepository.findByIsActive(true).stream()
@@ -176,6 +185,7 @@ public class DepartmentService {
      * @param name the name fragment
      * @return list of departments matching the name fragment
      */
+    @Transactional(readOnly = true)
     public List<DepartmentDto> searchDepartmentsByName(String name) {
         log.debug("Searching departments with name containing: {}", name);
         return departmentRepository.findByNameContainingIgnoreCase(name).stream()
@@ -189,6 +199,7 @@ public class DepartmentService {
      * @param code the department code
      * @return the department if found
      */
+    @Transactional(readOnly = true)
     public Optional<DepartmentDto> getDepartmentByCode(String code) {
         log.debug("Fetching department with code: {}", code);
         return departmentRepository.findByCode(code)
@@ -216,4 +227,26 @@ public class DepartmentService {
                 .updatedAt(department.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * Convert a Department list projection to DepartmentDto.
+     * 
+     * @param department the department projection
+     * @return the department DTO
+     */
+    private DepartmentDto convertToDto(DepartmentView department) {
+        return DepartmentDto.builder()
+                .id(department.id())
+                .name(department.name())
+                .description(department.description())
+                .code(department.code())
+                .managerName(department.managerName())
+                .managerEmail(department.managerEmail())
+                .location(department.location())
+                .budget(department.budget())
+                .isActive(department.isActive())
+                .createdAt(department.createdAt())
+                .updatedAt(department.updatedAt())
+                .build();
+    }
 }
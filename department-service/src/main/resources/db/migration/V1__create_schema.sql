@@ -0,0 +1,24 @@
+-- Department Service schema
+
+CREATE TABLE departments (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name          VARCHAR(255) NOT NULL,
+    description   VARCHAR(500),
+    code          VARCHAR(255) NOT NULL,
+    manager_name  VARCHAR(255),
+    manager_email VARCHAR(255),
+    location      VARCHAR(255),
+    budget        DOUBLE PRECISION,
+    is_active     BOOLEAN,
+    created_at    DATE,
+    updated_at    DATE,
+    CONSTRAINT uk_departments_name UNIQUE (name),
+    CONSTRAINT uk_departments_code UNIQUE (code)
+);
+
+-- findByIsActive, countActiveDepartments
+CREATE INDEX idx_departments_is_active ON departments (is_active);
+-- findByLocation
+CREATE INDEX idx_departments_location ON departments (location);
+-- findByManagerEmail
+CREATE INDEX idx_departments_manager_email ON departments (manager_email);
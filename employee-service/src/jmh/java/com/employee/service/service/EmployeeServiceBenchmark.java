@@ -0,0 +1,92 @@
+package com.employee.service.service;
+
+import com.employee.service.dto.EmployeeDto;
+import com.employee.service.dto.EmployeeView;
+import com.employee.service.entity.Employee;
+import com.employee.service.repository.EmployeeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of the employee DTO conversion, from an entity and from a list projection,
+ * measured through the public service methods over a repository that returns fixed fixtures.
+ * 
+ * @author Employee Service Team
+ * @version 1.0.0
+ * @since 2025-12-12
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmployeeServiceBenchmark {
+
+    private EmployeeService employeeService;
+
+    /**
+     * Build the employee fixtures and a service over a repository that returns them.
+     */
+    @Setup
+    public void setUp() {
+        Employee employee = Employee.builder()
+                .id(1L)
+                .firstName("John")
+                .lastName("Doe")
+                .email("john.doe@company.com")
+                .phoneNumber("123-456-7890")
+                .departmentId(1L)
+                .position("Software Engineer")
+                .hireDate(LocalDate.of(2023, 1, 15))
+                .salary(75000.00)
+                .isActive(true)
+                .createdAt(LocalDate.of(2023, 1, 15))
+                .build();
+        EmployeeView view = new EmployeeView(employee.getId(), employee.getFirstName(), employee.getLastName(),
+                employee.getEmail(), employee.getPhoneNumber(), employee.getDepartmentId(), employee.getPosition(),
+                employee.getHireDate(), employee.getSalary(), employee.getIsActive(), employee.getCreatedAt(),
+                employee.getUpdatedAt());
+        EmployeeRepository repository = (EmployeeRepository) Proxy.newProxyInstance(EmployeeRepository.class.getClassLoader(),
+                new Class<?>[] {EmployeeRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.of(employee);
+                    case "findAllProjectedBy" -> List.of(view);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        employeeService = new EmployeeService(repository);
+    }
+
+    /**
+     * Load one employee by ID, converted from the entity.
+     * 
+     * @return the DTO
+     */
+    @Benchmark
+    public Optional<EmployeeDto> getEmployeeById() {
+        return employeeService.getEmployeeById(1L);
+    }
+
+    /**
+     * List the employees, converted from the list projection.
+     * 
+     * @return the DTOs
+     */
+    @Benchmark
+    public List<EmployeeDto> getAllEmployees() {
+        return employeeService.getAllEmployees();
+    }
+}
@@ -0,0 +1,16 @@
+package com.employee.service.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable projection of an employee row for list queries.
+ * Built directly by a constructor expression, so no managed entity or dirty-checking snapshot is created.
+ * 
+ * @author Employee Service Team
+ * @version 1.0.0
+ * @since 2025-12-12
+ */
+public record EmployeeView(Long id, String firstName, String lastName, String email, String phoneNumber,
+                           Long departmentId, String position, LocalDate hireDate, Double salary,
+                           Boolean isActive, LocalDate createdAt, LocalDate updatedAt) {
+}
@@ -1,5 +1,6 @@
 package com.employee.service.repository;
 
+import com.employee.service.dto.EmployeeView;
 import com.employee.service.entity.Employee;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -19,6 +20,13 @@ import java.util.Optional;
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
+    /**
+     * Find all employees as list projections.
+     * 
+     * @return all employees
+     */
+    List<EmployeeView> findAllProjectedBy();
+
     /**
      * Find employee by email.
      * 
@@ -27,13 +35,21 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      */
     Optional<Employee> findByEmail(String email);
 
+    /**
+     * Check if employee email exists.
+     * 
+     * @param email the email address
+     * @return true if exists, false otherwise
+     */
+    boolean existsByEmail(String email);
+
     /**
      * Find employees by department ID.
      * 
      * @param departmentId the department ID
      * @return list of employees in the department
      */
-    List<Employee> findByDepartmentId(Long departmentId);
+    List<EmployeeView> findByDepartmentId(Long departmentId);
 
     /**
      * Find employees by active status.
@@ -41,7 +57,7 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
      * @param isActive the active status
      * @return list of active or inactive employees
      */
-    List<Employee> findByIsActive(Boolean isActive);
+    List<EmployeeView> findByIsActive(Boolean isActive);
 
     /**
      * Find employees by first name and last name.
@@ -1,12 +1,14 @@
 package com.employee.service.service;
 
 import com.employee.service.dto.EmployeeDto;
+import com.employee.service.dto.EmployeeView;
 import com.employee.service.entity.Employee;
 import com.employee.service.repository.EmployeeRepository;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -37,6 +39,7 @@ public class EmployeeService {
      * @param employeeDto the employee data
      * @return the created employee
      */
+    @Transactional
     public EmployeeDto createEmployee(EmployeeDto employeeDto) {
         log.info("Creating new employee: {}", employeeDto.getEmail());
         
@@ -69,6 +72,7 @@ public class EmployeeService {
      * @param id the employee ID
      * @return the employee if found
      */
+    @Transactional(readOnly = true)
     public Optional<EmployeeDto> getEmployeeById(Long id) {
         log.debug("Fetching employee with ID: {}", id);
         return employeeRepository.findById(id)
@@ -80,9 +84,10 @@ public class EmployeeService {
      * 
      * @return list of all employees
      */
+    @Transactional(readOnly = true)
     public List<EmployeeDto> getAllEmployees() {
         log.debug("Fetching all employees");
-        return employeeRepository.findAll().stream()
+        return employeeRepository.findAllProjectedBy().stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
     }
@@ -94,6 +99,7 @@ public class EmployeeService {
      * @param employeeDto the updated employee data
      * @return the updated employee
      */
+    @Transactional
     public EmployeeDto updateEmployee(Long id, EmployeeDto employeeDto) {
         log.info("Updating employee with ID: {}", id);
         
@@ -126,6 +132,7 @@ public class EmployeeService {
      * 
      * @param id the employee ID
      */
+    @Transactional
     public void deleteEmployee(Long id) {
         log.info("Deleting employee with ID: {}", id);
         
@@ -143,6 +150,7 @@ public class EmployeeService {
      * @param departmentId the department ID
      * @return list of employees in the department
      */
+    @Transactional(readOnly = true)
     public List<EmployeeDto> getEmployeesByDepartment(Long departmentId) {
         log.debug("Fetching employees for department ID: {}", departmentId);
         return employeeRepository.findByDepartmentId(departmentId).stream()
@@ -155,6 +163,7 @@ public class EmployeeService {
      * 
      * @return list of active employees
      */
+    @Transactional(readOnly = true)
     public List<EmployeeDto> getActiveEmployees() {
         log.debug("Fetching active employees");
         return employeeRepository.findByIsActive(true).stream()
@@ -184,4 +193,27 @@ public class EmployeeService {
                 .updatedAt(employee.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * Convert an Employee list projection to EmployeeDto.
+     * 
+     * @param employee the employee projection
+     * @return the employee DTO
+     */
+    private EmployeeDto convertToDto(EmployeeView employee) {
+        return EmployeeDto.builder()
+                .id(employee.id())
+                .firstName(employee.firstName())
+                .lastName(employee.lastName())
+                .email(employee.email())
+                .phoneNumber(employee.phoneNumber())
+                .departmentId(employee.departmentId())
+                .position(employee.position())
+                .hireDate(employee.hireDate())
+                .salary(employee.salary())
+                .isActive(employee.isActive())
+                .createdAt(employee.createdAt())
+                .updatedAt(employee.updatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,26 @@
+-- Employee Service schema
+
+CREATE TABLE employees (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    first_name    VARCHAR(255) NOT NULL,
+    last_name     VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    phone_number  VARCHAR(255) NOT NULL,
+    department_id BIGINT       NOT NULL,
+    position      VARCHAR(255) NOT NULL,
+    hire_date     DATE         NOT NULL,
+    salary        DOUBLE PRECISION,
+    is_active     BOOLEAN,
+    created_at    DATE,
+    updated_at    DATE,
+    CONSTRAINT uk_employees_email UNIQUE (email)
+);
+
+-- findByDepartmentId, countByDepartmentId
+CREATE INDEX idx_employees_department_id ON employees (department_id);
+-- findByIsActive
+CREATE INDEX idx_employees_is_active ON employees (is_active);
+-- findByFirstNameAndLastName
+CREATE INDEX idx_employees_first_name_last_name ON employees (first_name, last_name);
+-- findByPosition
+CREATE INDEX idx_employees_position ON employees (position);
@@ -0,0 +1,88 @@
+package com.employee.service.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every filtered {@link EmployeeRepository} query through H2's EXPLAIN and fails if the plan
+ * reads the employees table with a full table scan. The SQL explained is the SQL Hibernate generated
+ * for the call, recorded by {@link RecordingStatementInspector}. The unfiltered {@code findAll} and
+ * {@code findAllProjectedBy} read every row by design and are not covered.
+ * 
+ * @author Employee Service Team
+ * @version 1.0.0
+ * @since 2025-12-12
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.employee.service.repository.RecordingStatementInspector")
+class EmployeeRepositoryQueryPlanTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void lookupsByKey() {
+        assertNoTableScan(() -> employeeRepository.findById(1L));
+        assertNoTableScan(() -> employeeRepository.findByEmail("jane.doe@example.com"));
+        assertNoTableScan(() -> employeeRepository.existsByEmail("jane.doe@example.com"));
+    }
+
+    @Test
+    void departmentQueries() {
+        assertNoTableScan(() -> employeeRepository.findByDepartmentId(1L));
+        assertNoTableScan(() -> employeeRepository.countByDepartmentId(1L));
+    }
+
+    @Test
+    void attributeFilters() {
+        assertNoTableScan(() -> employeeRepository.findByIsActive(true));
+        assertNoTableScan(() -> employeeRepository.findByFirstNameAndLastName("Jane", "Doe"));
+        assertNoTableScan(() -> employeeRepository.findByPosition("Engineer"));
+    }
+
+    private void assertNoTableScan(Runnable query) {
+        RecordingStatementInspector.start();
+        query.run();
+        List<String> statements = RecordingStatementInspector.stop();
+
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            assertThat(explain(sql)).as(sql).doesNotContain(".tableScan");
+        }
+    }
+
+    /**
+     * Get H2's plan for a statement. Parameters are bound to NULL; the plan does not depend on them.
+     * 
+     * @param sql the statement
+     * @return the plan
+     */
+    private String explain(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to explain: " + sql, e);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.entity.Order;
+import com.ecommerce.order.entity.OrderItem;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic orders shared by the benchmarks.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+public final class OrderFixtures {
+
+    private OrderFixtures() {
+    }
+
+    /**
+     * Build a persisted-looking order with the given number of items.
+     * 
+     * @param id the order ID
+     * @param itemCount the number of items
+     * @return the order
+     */
+    public static Order order(long id, int itemCount) {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 12, 0).plusMinutes(id);
+        Order order = Order.builder()
+                .id(id)
+                .orderNumber("ORD-" + id)
+                .customerName("Customer " + id)
+                .customerEmail("customer" + id + "@example.com")
+                .status(Order.OrderStatus.PENDING)
+                .shippingAddress(id + " Benchmark Street, Springfield")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < itemCount; i++) {
+            BigDecimal unitPrice = BigDecimal.valueOf(999 + i * 250L, 2);
+            int quantity = 1 + i % 3;
+            BigDecimal totalPrice = unitPrice.multiply(BigDecimal.valueOf(quantity));
+            items.add(OrderItem.builder()
+                    .id(id * 100 + i)
+                    .productId(1000L + i)
+                    .productName("Product " + i)
+                    .quantity(quantity)
+                    .unitPrice(unitPrice)
+                    .totalPrice(totalPrice)
+                    .order(order)
+                    .build());
+            total = total.add(totalPrice);
+        }
+        order.setOrderItems(items);
+        order.setTotalAmount(total);
+        return order;
+    }
+
+    /**
+     * Build a page of orders.
+     * 
+     * @param size the number of orders
+     * @param itemCount the number of items per order
+     * @return the orders
+     */
+    public static List<Order> orders(int size, int itemCount) {
+        List<Order> orders = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            orders.add(order(i, itemCount));
+        }
+        return orders;
+    }
+}
@@ -0,0 +1,150 @@
+package com.ecommerce.order;
+
+import com.ecommerce.order.dto.OrderDto;
+import com.ecommerce.order.service.OrderService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Load test of the running service on Tomcat's platform-thread pool and on virtual threads.
+ * 400 client threads fetch random orders over HTTP; JMH reports the latency distribution
+ * (p99 included) per mode, and the server's peak number of concurrently handled requests is
+ * printed at the end of each trial.
+ * <p>
+ * The forked JVM runs with {@code -Djdk.tracePinnedThreads=short}, so any virtual thread that
+ * blocks while pinned to its carrier prints the pinning frame. HikariCP is pinned to 5.1.0 in the
+ * pom because 5.0.x blocks inside {@code synchronized}. The embedded H2 engine still executes every
+ * statement inside {@code synchronized} on its session, so H2 frames are expected in the trace;
+ * at most {@code maximum-pool-size} carriers can be pinned that way, one per borrowed connection.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Djdk.tracePinnedThreads=short")
+@Threads(400)
+@State(Scope.Benchmark)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int ORDER_COUNT = 1000;
+
+    /**
+     * Value of {@code spring.threads.virtual.enabled} for the trial.
+     */
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private final InFlightFilter inFlightFilter = new InFlightFilter();
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private List<URI> orderUris;
+
+    /**
+     * Start the service on a random port in the requested thread mode and create the orders.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OrderServiceApplication.class)
+                .initializers(applicationContext -> ((GenericApplicationContext) applicationContext)
+                        .registerBean(InFlightFilter.class, () -> inFlightFilter))
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.com.ecommerce.order=WARN");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        OrderService orderService = context.getBean(OrderService.class);
+        orderUris = new ArrayList<>(ORDER_COUNT);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Long id = orderService.createOrder(OrderDto.builder()
+                    .orderNumber("LOAD-" + i)
+                    .customerName("Customer " + i)
+                    .customerEmail("customer" + i + "@example.com")
+                    .totalAmount(new BigDecimal("12.50"))
+                    .build()).getId();
+            orderUris.add(URI.create("http://localhost:" + port + "/api/v1/orders/" + id));
+        }
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    /**
+     * Print the peak server-side concurrency and stop the service.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println("virtualThreads=" + virtualThreads
+                + " peak concurrent requests: " + inFlightFilter.peak.get());
+        context.close();
+    }
+
+    /**
+     * Fetch one random order.
+     * 
+     * @return the HTTP status
+     * @throws IOException if the request fails
+     * @throws InterruptedException if interrupted while waiting for the response
+     */
+    @Benchmark
+    public int getOrder() throws IOException, InterruptedException {
+        URI uri = orderUris.get(ThreadLocalRandom.current().nextInt(orderUris.size()));
+        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(uri).GET().build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.statusCode();
+    }
+
+    /**
+     * Counts requests being handled by the server and remembers the peak.
+     */
+    static class InFlightFilter extends OncePerRequestFilter {
+
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger peak = new AtomicInteger();
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.ecommerce.order.dto;
+
+import com.ecommerce.order.OrderFixtures;
+import com.ecommerce.order.mapper.OrderMapper;
+import com.ecommerce.order.service.OrderService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of OrderDto JSON serialization, for one order and for a default-sized list page.
+ * The mapper is configured like Spring Boot's: JSR-310 module registered, dates written as ISO strings.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderDtoJsonBenchmark {
+
+    @Param({"1", "10"})
+    private int itemCount;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private OrderDto order;
+    private List<OrderDto> page;
+
+    /**
+     * Build the DTOs for the current item count.
+     */
+    @Setup
+    public void setUp() {
+        OrderMapper orderMapper = new OrderMapper();
+        order = orderMapper.toDto(OrderFixtures.order(1, itemCount));
+        page = orderMapper.toDtoList(OrderFixtures.orders(OrderService.DEFAULT_PAGE_SIZE, itemCount));
+    }
+
+    /**
+     * Serialize one order.
+     * 
+     * @return the JSON bytes
+     * @throws JsonProcessingException never for these fixtures
+     */
+    @Benchmark
+    public byte[] writeOrder() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(order);
+    }
+
+    /**
+     * Serialize a default-sized page of orders.
+     * 
+     * @return the JSON bytes
+     * @throws JsonProcessingException never for these fixtures
+     */
+    @Benchmark
+    public byte[] writePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,83 @@
+package com.ecommerce.order.mapper;
+
+import com.ecommerce.order.OrderFixtures;
+import com.ecommerce.order.dto.OrderDto;
+import com.ecommerce.order.entity.Order;
+import com.ecommerce.order.service.OrderService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of the order mapper on single orders and on a default-sized list page.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderMapperBenchmark {
+
+    @Param({"1", "10"})
+    private int itemCount;
+
+    private final OrderMapper orderMapper = new OrderMapper();
+    private Order order;
+    private OrderDto orderDto;
+    private List<Order> page;
+
+    /**
+     * Build the fixtures for the current item count.
+     */
+    @Setup
+    public void setUp() {
+        order = OrderFixtures.order(1, itemCount);
+        orderDto = orderMapper.toDto(order);
+        page = OrderFixtures.orders(OrderService.DEFAULT_PAGE_SIZE, itemCount);
+    }
+
+    /**
+     * Map one entity to a DTO.
+     * 
+     * @return the DTO
+     */
+    @Benchmark
+    public OrderDto toDto() {
+        return orderMapper.toDto(order);
+    }
+
+    /**
+     * Map one DTO to an entity.
+     * 
+     * @return the entity
+     */
+    @Benchmark
+    public Order toEntity() {
+        return orderMapper.toEntity(orderDto);
+    }
+
+    /**
+     * Map a default-sized page of entities to DTOs.
+     * 
+     * @return the DTOs
+     */
+    @Benchmark
+    public List<OrderDto> toDtoList() {
+        return orderMapper.toDtoList(page);
+    }
+}
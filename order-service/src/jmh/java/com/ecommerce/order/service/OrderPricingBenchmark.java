@@ -0,0 +1,116 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.client.ProductCatalogClient;
+import com.ecommerce.order.client.StubProductService;
+import com.ecommerce.order.entity.Order;
+import com.ecommerce.order.entity.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pricing latency under concurrent checkouts of the same products, against a stub product-service
+ * that answers each call after a fixed delay: one call per order, calls coalesced and batched
+ * by {@link OrderPricingService}, and the same with the short-TTL price cache.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class OrderPricingBenchmark {
+
+    private static final Duration PRODUCT_SERVICE_LATENCY = Duration.ofMillis(2);
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final List<Long> PRODUCT_IDS = List.of(1L, 2L, 3L);
+
+    private StubProductService stub;
+    private ProductCatalogClient client;
+    private OrderPricingService coalescingService;
+    private OrderPricingService cachingService;
+    private List<Order> orders;
+
+    /**
+     * Start the stub product-service and build the pricing services.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<Long, ProductCatalogClient.ProductPrice> catalog = new HashMap<>();
+        for (Long id : PRODUCT_IDS) {
+            catalog.put(id, new ProductCatalogClient.ProductPrice(id, "Product " + id, BigDecimal.valueOf(999 + id, 2)));
+        }
+        stub = StubProductService.start(catalog, PRODUCT_SERVICE_LATENCY);
+        client = new ProductCatalogClient(RestClient.builder(), stub.baseUrl(), TIMEOUT);
+        coalescingService = new OrderPricingService(client, true, Duration.ofMillis(2), 200, TIMEOUT, Duration.ZERO, 10000);
+        cachingService = new OrderPricingService(client, true, Duration.ofMillis(2), 200, TIMEOUT, Duration.ofSeconds(5), 10000);
+        Order order = Order.builder()
+                .orderItems(PRODUCT_IDS.stream()
+                        .map(id -> OrderItem.builder().productId(id).quantity(1).build())
+                        .toList())
+                .build();
+        orders = List.of(order);
+    }
+
+    /**
+     * Stop the pricing services and the stub.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        coalescingService.shutdown();
+        cachingService.shutdown();
+        stub.close();
+    }
+
+    /**
+     * One product-service call per order.
+     * 
+     * @return the prices
+     */
+    @Benchmark
+    public Map<Long, ProductCatalogClient.ProductPrice> direct() {
+        return client.getPrices(PRODUCT_IDS);
+    }
+
+    /**
+     * Concurrent lookups share in-flight fetches and are batched, without caching.
+     * 
+     * @return the prices
+     */
+    @Benchmark
+    public Map<Long, ProductCatalogClient.ProductPrice> coalesced() {
+        return coalescingService.lookupPrices(orders);
+    }
+
+    /**
+     * Coalesced and batched lookups served from the price cache while it is fresh.
+     * 
+     * @return the prices
+     */
+    @Benchmark
+    public Map<Long, ProductCatalogClient.ProductPrice> cached() {
+        return cachingService.lookupPrices(orders);
+    }
+}
@@ -0,0 +1,57 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.OrderFixtures;
+import com.ecommerce.order.entity.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of the order total calculation run on every create and update.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderServiceBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private Order order;
+
+    /**
+     * Build the order for the current item count.
+     */
+    @Setup
+    public void setUp() {
+        order = OrderFixtures.order(1, itemCount);
+    }
+
+    /**
+     * Recalculate the order total from its items.
+     * 
+     * @return the calculated total
+     */
+    @Benchmark
+    public BigDecimal calculateOrderTotal() {
+        OrderService.calculateOrderTotal(order);
+        return order.getTotalAmount();
+    }
+}
@@ -0,0 +1,151 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.OrderServiceApplication;
+import com.ecommerce.order.dto.OrderDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Order throughput on the in-memory H2 database and on the file-backed one of the {@code h2-file}
+ * profile, with the same workload: creating an order with its items, loading one by ID, and
+ * reading the first page of a customer's orders. Each trial starts the application without a web
+ * server on a fresh database, in a temporary data directory for the file-backed run, and seeds
+ * {@value #SEEDED_ORDERS} orders first.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class OrderStorageBenchmark {
+
+    private static final int SEEDED_ORDERS = 1000;
+    private static final int CUSTOMERS = 50;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Param({"mem", "h2-file"})
+    private String storage;
+
+    private Path dataDir;
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private List<Long> orderIds;
+
+    /**
+     * Start the application on the selected storage and seed the orders.
+     * 
+     * @throws IOException if the data directory cannot be created
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("order-storage-benchmark");
+        SpringApplicationBuilder application = new SpringApplicationBuilder(OrderServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("H2_DATA_DIR=" + dataDir);
+        if ("h2-file".equals(storage)) {
+            application.profiles("h2-file");
+        }
+        context = application.run("--spring.jpa.show-sql=false", "--logging.level.com.ecommerce.order=WARN");
+        orderService = context.getBean(OrderService.class);
+
+        orderIds = new ArrayList<>(SEEDED_ORDERS);
+        for (int i = 0; i < SEEDED_ORDERS; i++) {
+            orderIds.add(orderService.createOrder(order(i % CUSTOMERS)).getId());
+        }
+    }
+
+    /**
+     * Stop the application and delete the database files.
+     * 
+     * @throws IOException if the data directory cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(dataDir);
+    }
+
+    /**
+     * Create an order with its items in one transaction.
+     * 
+     * @return the created order
+     */
+    @Benchmark
+    public OrderDto createOrder() {
+        return orderService.createOrder(order(ThreadLocalRandom.current().nextInt(CUSTOMERS)));
+    }
+
+    /**
+     * Load a seeded order with its items.
+     * 
+     * @return the order
+     */
+    @Benchmark
+    public OrderDto getOrderById() {
+        return orderService.getOrderById(orderIds.get(ThreadLocalRandom.current().nextInt(orderIds.size())));
+    }
+
+    /**
+     * Read the first page of a customer's orders.
+     * 
+     * @return the page
+     */
+    @Benchmark
+    public OrderService.OrderPage getOrdersByCustomerEmail() {
+        return orderService.getOrdersByCustomerEmail(email(ThreadLocalRandom.current().nextInt(CUSTOMERS)), null,
+                OrderService.DEFAULT_PAGE_SIZE);
+    }
+
+    private static OrderDto order(int customer) {
+        List<OrderDto.OrderItemDto> items = new ArrayList<>(ITEMS_PER_ORDER);
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            items.add(OrderDto.OrderItemDto.builder()
+                    .productId(1000L + i)
+                    .productName("Product " + i)
+                    .quantity(1 + i)
+                    .unitPrice(BigDecimal.valueOf(999 + i * 250L, 2))
+                    .build());
+        }
+        return OrderDto.builder()
+                .customerName("Customer " + customer)
+                .customerEmail(email(customer))
+                .shippingAddress(customer + " Benchmark Street, Springfield")
+                .totalAmount(BigDecimal.ZERO)
+                .orderItems(items)
+                .build();
+    }
+
+    private static String email(int customer) {
+        return "customer" + customer + "@example.com";
+    }
+}
@@ -0,0 +1,85 @@
+package com.ecommerce.order.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP client for the product-service batch lookup endpoint.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductCatalogClient {
+
+    private static final ParameterizedTypeReference<List<ProductLookup>> LOOKUP_LIST =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final RestClient restClient;
+
+    public ProductCatalogClient(RestClient.Builder restClientBuilder,
+                                @Value("${order.pricing.product-service-url:http://localhost:8081}") String baseUrl,
+                                @Value("${order.pricing.timeout:2s}") Duration timeout) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(
+                HttpClient.newBuilder().connectTimeout(timeout).build());
+        requestFactory.setReadTimeout(timeout);
+        this.restClient = restClientBuilder
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .build();
+    }
+
+    /**
+     * Fetch the current name and price of several products in one call.
+     * 
+     * @param productIds the product IDs
+     * @return map of product ID to price for every product that exists
+     */
+    public Map<Long, ProductPrice> getPrices(Collection<Long> productIds) {
+        log.debug("Fetching prices for {} products from product-service", productIds.size());
+
+        List<ProductLookup> lookups = restClient.post()
+                .uri("/api/v1/products/batch/ids")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(productIds)
+                .retrieve()
+                .body(LOOKUP_LIST);
+
+        Map<Long, ProductPrice> prices = new HashMap<>();
+        if (lookups != null) {
+            for (ProductLookup lookup : lookups) {
+                if (lookup.found() && lookup.product() != null) {
+                    prices.put(lookup.key(), lookup.product());
+                }
+            }
+        }
+        return prices;
+    }
+
+    /**
+     * Name and unit price of a product as returned by product-service.
+     */
+    public record ProductPrice(Long id, String name, BigDecimal price) {
+    }
+
+    /**
+     * One entry of a product-service batch lookup response.
+     */
+    private record ProductLookup(Long key, boolean found, ProductPrice product) {
+    }
+}
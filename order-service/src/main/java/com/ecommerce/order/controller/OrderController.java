@@ -8,8 +8,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -26,6 +28,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderController {
 
+    /**
+     * Response header carrying the opaque cursor of the next page.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String DEFAULT_PAGE_SIZE = "50";
+
+    private static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
     private final OrderService orderService;
 
     /**
@@ -42,6 +53,20 @@ public class OrderController {
         return new ResponseEntity<>(createdOrder, HttpStatus.CREATED);
     }
 
+    /**
+     * Create a batch of orders.
+     * 
+     * @param orderDtos the orders to create
+     * @return one result per submitted order, in request order
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<List<OrderService.BulkOrderResult>> createOrders(@RequestBody List<OrderDto> orderDtos) {
+        log.info("POST /api/v1/orders/bulk - Creating {} orders", orderDtos.size());
+        
+        List<OrderService.BulkOrderResult> results = orderService.createOrders(orderDtos);
+        return ResponseEntity.ok(results);
+    }
+
     /**
      * Get an order by ID.
      * 
@@ -71,94 +96,136 @@ public class OrderController {
     }
 
     /**
-     * Get all orders.
+     * Get a page of all orders.
      * 
-     * @return list of all orders
+     * @param cursor the continuation cursor from the previous page
+     * @param size the page size
+     * @return a page of orders, with the next cursor in the response header
      */
     @GetMapping
-    public ResponseEntity<List<OrderDto>> getAllOrders() {
-        log.debug("GET /api/v1/orders - Fetching all orders");
+    public ResponseEntity<List<OrderDto>> getAllOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+        log.debug("GET /api/v1/orders?cursor={}&size={} - Fetching all orders", cursor, size);
         
-        List<OrderDto> orders = orderService.getAllOrders();
-        return ResponseEntity.ok(orders);
+        OrderService.OrderPage page = orderService.getAllOrders(cursor, size);
+        return toPageResponse(page);
     }
 
     /**
-     * Get orders by customer email.
+     * Export all orders as newline-delimited JSON.
+     * 
+     * @return streaming NDJSON body
+     */
+    @GetMapping(value = "/export", produces = NDJSON_MEDIA_TYPE)
+    public ResponseEntity<StreamingResponseBody> exportOrders() {
+        log.info("GET /api/v1/orders/export - Exporting all orders");
+        
+        StreamingResponseBody body = orderService::exportOrders;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_MEDIA_TYPE))
+                .body(body);
+    }
+
+    /**
+     * Get a page of orders by customer email.
      * 
      * @param customerEmail the customer email
-     * @return list of orders for the customer
+     * @param cursor the continuation cursor from the previous page
+     * @param size the page size
+     * @return a page of orders for the customer, with the next cursor in the response header
      */
     @GetMapping("/customer/{customerEmail}")
-    public ResponseEntity<List<OrderDto>> getOrdersByCustomerEmail(@PathVariable String customerEmail) {
+    public ResponseEntity<List<OrderDto>> getOrdersByCustomerEmail(
+            @PathVariable String customerEmail,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
         log.debug("GET /api/v1/orders/customer/{} - Fetching orders for customer", customerEmail);
         
-        List<OrderDto> orders = orderService.getOrdersByCustomerEmail(customerEmail);
-        return ResponseEntity.ok(orders);
+        OrderService.OrderPage page = orderService.getOrdersByCustomerEmail(customerEmail, cursor, size);
+        return toPageResponse(page);
     }
 
     /**
-     * Get orders by status.
+     * Get a page of orders by status.
      * 
      * @param status the order status
-     * @return list of orders with the specified status
+     * @param cursor the continuation cursor from the previous page
+     * @param size the page size
+     * @return a page of orders with the specified status, with the next cursor in the response header
      */
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<OrderDto>> getOrdersByStatus(@PathVariable Order.OrderStatus status) {
+    public ResponseEntity<List<OrderDto>> getOrdersByStatus(
+            @PathVariable Order.OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
         log.debug("GET /api/v1/orders/status/{} - Fetching orders by status", status);
         
-        List<OrderDto> orders = orderService.getOrdersByStatus(status);
-        return ResponseEntity.ok(orders);
+        OrderService.OrderPage page = orderService.getOrdersByStatus(status, cursor, size);
+        return toPageResponse(page);
     }
 
     /**
-     * Get orders by customer email and status.
+     * Get a page of orders by customer email and status.
      * 
      * @param customerEmail the customer email
      * @param status the order status
-     * @return list of orders matching both criteria
+     * @param cursor the continuation cursor from the previous page
+     * @param size the page size
+     * @return a page of orders matching both criteria, with the next cursor in the response header
      */
     @GetMapping("/customer/{customerEmail}/status/{status}")
     public ResponseEntity<List<OrderDto>> getOrdersByCustomerEmailAndStatus(
             @PathVariable String customerEmail,
-            @PathVariable Order.OrderStatus status) {
+            @PathVariable Order.OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
         log.debug("GET /api/v1/orders/customer/{}/status/{} - Fetching orders by customer and status", 
                 customerEmail, status);
         
-        List<OrderDto> orders = orderService.getOrdersByCustomerEmailAndStatus(customerEmail, status);
-        return ResponseEntity.ok(orders);
+        OrderService.OrderPage page = orderService.getOrdersByCustomerEmailAndStatus(customerEmail, status, cursor, size);
+        return toPageResponse(page);
     }
 
     /**
-     * Get orders created within a date range.
+     * Get a page of orders created within a date range.
      * 
      * @param startDate the start date
      * @param endDate the end date
-     * @return list of orders created within the date range
+     * @param cursor the continuation cursor from the previous page
+     * @param size the page size
+     * @return a page of orders created within the date range, with the next cursor in the response header
      */
     @GetMapping("/date-range")
     public ResponseEntity<List<OrderDto>> getOrdersByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
         log.debug("GET /api/v1/orders/date-range?startDate={}&endDate={} - Fetching orders by date range", 
                 startDate, endDate);
         
-        List<OrderDto> orders = orderService.getOrdersByDateRange(startDate, endDate);
-        return ResponseEntity.ok(orders);
+        OrderService.OrderPage page = orderService.getOrdersByDateRange(startDate, endDate, cursor, size);
+        return toPageResponse(page);
     }
 
     /**
-     * Search orders by customer name.
+     * Search a page of orders by customer name.
      * 
      * @param customerName the customer name fragment to search for
-     * @return list of matching orders
+     * @param cursor the continuation cursor from the previous page
+     * @param size the page size
+     * @return a page of matching orders, with the next cursor in the response header
      */
     @GetMapping("/search")
-    public ResponseEntity<List<OrderDto>> searchOrdersByCustomerName(@RequestParam String customerName) {
+    public ResponseEntity<List<OrderDto>> searchOrdersByCustomerName(
+            @RequestParam String customerName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
         log.debug("GET /api/v1/orders/search?customerName={} - Searching orders by customer name", customerName);
         
-        List<OrderDto> orders = orderService.searchOrdersByCustomerName(customerName);
-        return ResponseEntity.ok(orders);
+        OrderService.OrderPage page = orderService.searchOrdersByCustomerName(customerName, cursor, size);
+        return toPageResponse(page);
     }
 
     /**
@@ -221,4 +288,18 @@ public class OrderController {
         OrderService.OrderStatistics statistics = orderService.getOrderStatistics();
         return ResponseEntity.ok(statistics);
     }
+
+    /**
+     * Build a list response for a page, exposing the next cursor as a header when more results exist.
+     * 
+     * @param page the page of orders
+     * @return the response entity
+     */
+    private ResponseEntity<List<OrderDto>> toPageResponse(OrderService.OrderPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.orders());
+    }
 }
@@ -1,7 +1,10 @@
 package com.ecommerce.order.dto;
 
 import com.ecommerce.order.entity.Order;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -50,6 +53,7 @@ public class OrderDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    @Valid
     private List<OrderItemDto> orderItems;
 
     /**
@@ -62,10 +66,19 @@ public class OrderDto {
     public static class OrderItemDto {
 
         private Long id;
+
+        @NotNull(message = "Product ID is required")
         private Long productId;
+
         private String productName;
+
+        @NotNull(message = "Quantity is required")
+        @Min(value = 1, message = "Quantity must be at least 1")
         private Integer quantity;
+
+        @DecimalMin(value = "0.01", message = "Unit price must be greater than 0")
         private BigDecimal unitPrice;
+
         private BigDecimal totalPrice;
     }
 }
@@ -0,0 +1,19 @@
+package com.ecommerce.order.exception;
+
+/**
+ * Exception thrown when a bulk request contains more elements than allowed.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+public class BulkRequestTooLargeException extends RuntimeException {
+
+    /**
+     * Constructs a new BulkRequestTooLargeException with the specified detail message.
+     * 
+     * @param message the detail message
+     */
+    public BulkRequestTooLargeException(String message) {
+        super(message);
+    }
+}
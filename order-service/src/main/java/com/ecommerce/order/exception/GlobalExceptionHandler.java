@@ -1,8 +1,10 @@
 package com.ecommerce.order.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -64,6 +66,111 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handle InvalidCursorException.
+     * 
+     * @param exception the exception
+     * @return error response
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException exception) {
+        log.error("Invalid cursor: {}", exception.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Invalid Cursor")
+                .message(exception.getMessage())
+                .path("")
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handle BulkRequestTooLargeException.
+     * 
+     * @param exception the exception
+     * @return error response
+     */
+    @ExceptionHandler(BulkRequestTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleBulkRequestTooLargeException(BulkRequestTooLargeException exception) {
+        log.error("Bulk request too large: {}", exception.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Bulk Request Too Large")
+                .message(exception.getMessage())
+                .path("")
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handle UnknownProductException.
+     * 
+     * @param exception the exception
+     * @return error response
+     */
+    @ExceptionHandler(UnknownProductException.class)
+    public ResponseEntity<ErrorResponse> handleUnknownProductException(UnknownProductException exception) {
+        log.error("Unknown product: {}", exception.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error("Unknown Product")
+                .message(exception.getMessage())
+                .path("")
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handle PricingUnavailableException.
+     * 
+     * @param exception the exception
+     * @return error response
+     */
+    @ExceptionHandler(PricingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePricingUnavailableException(PricingUnavailableException exception) {
+        log.error("Pricing unavailable: {}", exception.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Pricing Unavailable")
+                .message(exception.getMessage())
+                .path("")
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    /**
+     * Handle failures to obtain a database connection, such as a connection pool acquisition timeout.
+     * 
+     * @param exception the exception
+     * @return error response
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ErrorResponse> handleDatabaseUnavailableException(RuntimeException exception) {
+        log.warn("Database unavailable: {}", exception.getMessage());
+        
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .error("Service Unavailable")
+                .message("Database is busy, please retry")
+                .path("")
+                .build();
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     /**
      * Handle validation exceptions.
      * 
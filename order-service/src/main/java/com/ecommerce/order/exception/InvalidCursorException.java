@@ -0,0 +1,29 @@
+package com.ecommerce.order.exception;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidCursorException with the specified detail message.
+     * 
+     * @param message the detail message
+     */
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new InvalidCursorException with the specified detail message and cause.
+     * 
+     * @param message the detail message
+     * @param cause the cause of the exception
+     */
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
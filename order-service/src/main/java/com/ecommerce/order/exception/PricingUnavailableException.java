@@ -0,0 +1,29 @@
+package com.ecommerce.order.exception;
+
+/**
+ * Exception thrown when product prices cannot be fetched from product-service.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+public class PricingUnavailableException extends RuntimeException {
+
+    /**
+     * Constructs a new PricingUnavailableException with the specified detail message.
+     * 
+     * @param message the detail message
+     */
+    public PricingUnavailableException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new PricingUnavailableException with the specified detail message and cause.
+     * 
+     * @param message the detail message
+     * @param cause the cause of the exception
+     */
+    public PricingUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
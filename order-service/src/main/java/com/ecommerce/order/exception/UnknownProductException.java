@@ -0,0 +1,29 @@
+package com.ecommerce.order.exception;
+
+/**
+ * Exception thrown when an order references a product that product-service does not know.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+public class UnknownProductException extends RuntimeException {
+
+    /**
+     * Constructs a new UnknownProductException with the specified detail message.
+     * 
+     * @param message the detail message
+     */
+    public UnknownProductException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new UnknownProductException with the specified detail message and cause.
+     * 
+     * @param message the detail message
+     * @param cause the cause of the exception
+     */
+    public UnknownProductException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
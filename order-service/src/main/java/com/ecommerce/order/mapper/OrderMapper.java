@@ -74,6 +74,7 @@ public class OrderMapper {
             List<OrderItem> orderItems = orderDto.getOrderItems().stream()
                     .map(this::toOrderItemEntity)
                     .collect(Collectors.toList());
+            orderItems.forEach(orderItem -> orderItem.setOrder(order));
             order.setOrderItems(orderItems);
         }
 
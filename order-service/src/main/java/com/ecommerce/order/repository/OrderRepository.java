@@ -1,14 +1,19 @@
 package com.ecommerce.order.repository;
 
 import com.ecommerce.order.entity.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for Order entity operations.
@@ -20,13 +25,34 @@ import java.util.Optional;
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
     /**
-     * Find an order by its order number.
+     * Find an order by ID, fetching its items in the same query.
+     * 
+     * @param id the order ID
+     * @return Optional containing the order if found
+     */
+    @Override
+    @EntityGraph(attributePaths = "orderItems")
+    Optional<Order> findById(Long id);
+
+    /**
+     * Find an order by its order number, fetching its items in the same query.
      * 
      * @param orderNumber the order number to search for
      * @return Optional containing the order if found
      */
+    @EntityGraph(attributePaths = "orderItems")
     Optional<Order> findByOrderNumber(String orderNumber);
 
+    /**
+     * Find orders by ID, fetching their items in the same query.
+     * Used to load the items of a page or export chunk of orders in one round trip.
+     * 
+     * @param ids the order IDs
+     * @return the orders with initialized items, in no particular order
+     */
+    @EntityGraph(attributePaths = "orderItems")
+    List<Order> findWithItemsByIdIn(Collection<Long> ids);
+
     /**
      * Find orders by customer email.
      * 
@@ -79,6 +105,15 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      */
     boolean existsByOrderNumber(String orderNumber);
 
+    /**
+     * Find which of the given order numbers are already taken.
+     * 
+     * @param orderNumbers the order numbers to check
+     * @return the subset of order numbers that already exist
+     */
+    @Query("SELECT o.orderNumber FROM Order o WHERE o.orderNumber IN :orderNumbers")
+    Set<String> findExistingOrderNumbers(@Param("orderNumbers") Collection<String> orderNumbers);
+
     /**
      * Count orders by status.
      * 
@@ -86,4 +121,102 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
      * @return the count of orders with the specified status
      */
     long countByStatus(Order.OrderStatus status);
+
+    /**
+     * Count orders and sum their total amounts per status in a single query.
+     * 
+     * @return one summary row per status that has at least one order
+     */
+    @Query("SELECT o.status AS status, COUNT(o) AS orderCount, COALESCE(SUM(o.totalAmount), 0) AS revenue "
+            + "FROM Order o GROUP BY o.status")
+    List<StatusSummary> summarizeByStatus();
+
+    /**
+     * Find the next page of orders after the given ID, ordered by ID.
+     * 
+     * @param afterId the last ID of the previous page (exclusive)
+     * @param pageable the page size limit
+     * @return the next page of orders
+     */
+    List<Order> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    /**
+     * Find the next page of orders for a customer email after the given ID, ordered by ID.
+     * 
+     * @param customerEmail the customer email to filter by
+     * @param afterId the last ID of the previous page (exclusive)
+     * @param pageable the page size limit
+     * @return the next page of orders for the specified customer
+     */
+    List<Order> findByCustomerEmailAndIdGreaterThanOrderByIdAsc(String customerEmail, Long afterId, Pageable pageable);
+
+    /**
+     * Find the next page of orders with a status after the given ID, ordered by ID.
+     * 
+     * @param status the order status to filter by
+     * @param afterId the last ID of the previous page (exclusive)
+     * @param pageable the page size limit
+     * @return the next page of orders with the specified status
+     */
+    List<Order> findByStatusAndIdGreaterThanOrderByIdAsc(Order.OrderStatus status, Long afterId, Pageable pageable);
+
+    /**
+     * Find the next page of orders by customer email and status after the given ID, ordered by ID.
+     * 
+     * @param customerEmail the customer email
+     * @param status the order status
+     * @param afterId the last ID of the previous page (exclusive)
+     * @param pageable the page size limit
+     * @return the next page of orders matching both criteria
+     */
+    List<Order> findByCustomerEmailAndStatusAndIdGreaterThanOrderByIdAsc(String customerEmail, Order.OrderStatus status,
+                                                                        Long afterId, Pageable pageable);
+
+    /**
+     * Find the next page of orders created within a date range after the given ID, ordered by ID.
+     * 
+     * @param startDate the start date
+     * @param endDate the end date
+     * @param afterId the last ID of the previous page (exclusive)
+     * @param pageable the page size limit
+     * @return the next page of orders created within the date range
+     */
+    @Query("SELECT o FROM Order o WHERE o.createdAt BETWEEN :startDate AND :endDate AND o.id > :afterId ORDER BY o.id")
+    List<Order> findByCreatedAtBetweenAfterId(@Param("startDate") LocalDateTime startDate,
+                                             @Param("endDate") LocalDateTime endDate,
+                                             @Param("afterId") Long afterId,
+                                             Pageable pageable);
+
+    /**
+     * Find the next page of orders by customer name fragment after the given ID, ordered by ID.
+     * 
+     * @param customerName the customer name fragment to search for
+     * @param afterId the last ID of the previous page (exclusive)
+     * @param pageable the page size limit
+     * @return the next page of orders matching the customer name criteria
+     */
+    List<Order> findByCustomerNameContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(String customerName, Long afterId,
+                                                                                  Pageable pageable);
+
+    /**
+     * Find the next IDs in ID order after the given ID, for reading all orders in keyset chunks.
+     * 
+     * @param afterId the last ID already read, or 0 for the first chunk
+     * @param pageable the chunk size
+     * @return the next order IDs in ascending order
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.id > :afterId ORDER BY o.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Projection of the per-status aggregate returned by {@link #summarizeByStatus()}.
+     */
+    interface StatusSummary {
+
+        Order.OrderStatus getStatus();
+
+        long getOrderCount();
+
+        BigDecimal getRevenue();
+    }
 }
@@ -0,0 +1,270 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.client.ProductCatalogClient;
+import com.ecommerce.order.entity.Order;
+import com.ecommerce.order.entity.OrderItem;
+import com.ecommerce.order.exception.PricingUnavailableException;
+import com.ecommerce.order.exception.UnknownProductException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Prices order items from product-service instead of trusting client-supplied prices.
+ * Lookups for the same product from concurrent requests share one in-flight fetch,
+ * fetches are batched into multi-get calls over a short window, and prices are kept
+ * in a short-TTL local cache.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class OrderPricingService {
+
+    private final ProductCatalogClient productCatalogClient;
+    private final boolean enabled;
+    private final Duration batchWindow;
+    private final int maxBatchSize;
+    private final Duration timeout;
+    private final Cache<Long, ProductCatalogClient.ProductPrice> priceCache;
+    private final Map<Long, CompletableFuture<ProductCatalogClient.ProductPrice>> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private final ScheduledExecutorService batchExecutor;
+    private List<Long> pending = new ArrayList<>();
+
+    public OrderPricingService(ProductCatalogClient productCatalogClient,
+                               @Value("${order.pricing.enabled:false}") boolean enabled,
+                               @Value("${order.pricing.batch-window:2ms}") Duration batchWindow,
+                               @Value("${order.pricing.max-batch-size:200}") int maxBatchSize,
+                               @Value("${order.pricing.timeout:2s}") Duration timeout,
+                               @Value("${order.pricing.cache-ttl:5s}") Duration cacheTtl,
+                               @Value("${order.pricing.cache-maximum-size:10000}") long cacheMaximumSize) {
+        this.productCatalogClient = productCatalogClient;
+        this.enabled = enabled;
+        this.batchWindow = batchWindow;
+        this.maxBatchSize = maxBatchSize;
+        this.timeout = timeout;
+        this.priceCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(cacheTtl)
+                .build();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.batchExecutor = Executors.newScheduledThreadPool(4, runnable -> {
+            Thread thread = new Thread(runnable, "order-pricing-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Price the items of a single order.
+     * 
+     * @param order the order
+     * @throws UnknownProductException if an item references a product that does not exist
+     * @throws PricingUnavailableException if product-service cannot be reached in time
+     */
+    public void price(Order order) {
+        applyPrices(order, lookupPrices(List.of(order)));
+    }
+
+    /**
+     * Fetch the prices of every product referenced by the given orders.
+     * Returns an empty map when pricing is disabled.
+     * 
+     * @param orders the orders
+     * @return map of product ID to price for every product that exists
+     * @throws PricingUnavailableException if product-service cannot be reached in time
+     */
+    public Map<Long, ProductCatalogClient.ProductPrice> lookupPrices(Collection<Order> orders) {
+        if (!enabled) {
+            return Map.of();
+        }
+
+        Set<Long> productIds = new LinkedHashSet<>();
+        for (Order order : orders) {
+            if (order.getOrderItems() != null) {
+                order.getOrderItems().stream()
+                        .map(OrderItem::getProductId)
+                        .filter(Objects::nonNull)
+                        .forEach(productIds::add);
+            }
+        }
+
+        Map<Long, CompletableFuture<ProductCatalogClient.ProductPrice>> futures = new HashMap<>();
+        for (Long productId : productIds) {
+            futures.put(productId, request(productId));
+        }
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                    .get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PricingUnavailableException("Interrupted while fetching product prices", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new PricingUnavailableException("Product prices are currently unavailable", e);
+        }
+
+        Map<Long, ProductCatalogClient.ProductPrice> prices = new HashMap<>();
+        futures.forEach((productId, future) -> {
+            ProductCatalogClient.ProductPrice price = future.join();
+            if (price != null) {
+                prices.put(productId, price);
+            }
+        });
+        return prices;
+    }
+
+    /**
+     * Set the product name, unit price and total price of each item from looked-up prices.
+     * Does nothing when pricing is disabled.
+     * 
+     * @param order the order
+     * @param prices the prices returned by {@link #lookupPrices}
+     * @throws UnknownProductException if an item references a product that does not exist
+     */
+    public void applyPrices(Order order, Map<Long, ProductCatalogClient.ProductPrice> prices) {
+        if (!enabled || order.getOrderItems() == null) {
+            return;
+        }
+        for (OrderItem item : order.getOrderItems()) {
+            ProductCatalogClient.ProductPrice price = prices.get(item.getProductId());
+            if (price == null) {
+                throw new UnknownProductException("Product not found with ID: " + item.getProductId());
+            }
+            item.setProductName(price.name());
+            item.setUnitPrice(price.price());
+            if (item.getQuantity() != null) {
+                item.setTotalPrice(price.price().multiply(BigDecimal.valueOf(item.getQuantity())));
+            }
+        }
+    }
+
+    /**
+     * Stop the batch executor on shutdown.
+     */
+    @PreDestroy
+    void shutdown() {
+        batchExecutor.shutdownNow();
+    }
+
+    /**
+     * Get the price of a product from the cache, an in-flight fetch, or a new batched fetch.
+     * 
+     * @param productId the product ID
+     * @return future completed with the price, or with null if the product does not exist
+     */
+    private CompletableFuture<ProductCatalogClient.ProductPrice> request(Long productId) {
+        ProductCatalogClient.ProductPrice cached = priceCache.getIfPresent(productId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<ProductCatalogClient.ProductPrice> created = new CompletableFuture<>();
+        CompletableFuture<ProductCatalogClient.ProductPrice> existing = inFlight.putIfAbsent(productId, created);
+        if (existing != null) {
+            return existing;
+        }
+        enqueue(productId);
+        return created;
+    }
+
+    /**
+     * Add a product to the pending batch. The first product of a batch schedules its flush
+     * after the batch window; a full batch is fetched immediately.
+     * 
+     * @param productId the product ID
+     */
+    private void enqueue(Long productId) {
+        List<Long> fullBatch = null;
+        pendingLock.lock();
+        try {
+            pending.add(productId);
+            if (pending.size() == 1) {
+                batchExecutor.schedule(this::flushPending, batchWindow.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = pending;
+                pending = new ArrayList<>();
+            }
+        } finally {
+            pendingLock.unlock();
+        }
+        if (fullBatch != null) {
+            List<Long> batch = fullBatch;
+            batchExecutor.execute(() -> fetch(batch));
+        }
+    }
+
+    private void flushPending() {
+        List<Long> batch;
+        pendingLock.lock();
+        try {
+            batch = pending;
+            pending = new ArrayList<>();
+        } finally {
+            pendingLock.unlock();
+        }
+        if (!batch.isEmpty()) {
+            fetch(batch);
+        }
+    }
+
+    /**
+     * Fetch one batch of prices and complete the waiting futures.
+     * 
+     * @param batch the product IDs
+     */
+    private void fetch(List<Long> batch) {
+        try {
+            Map<Long, ProductCatalogClient.ProductPrice> prices = productCatalogClient.getPrices(batch);
+            for (Long productId : batch) {
+                ProductCatalogClient.ProductPrice price = prices.get(productId);
+                if (price != null) {
+                    priceCache.put(productId, price);
+                }
+                complete(productId, price, null);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to fetch prices for {} products: {}", batch.size(), e.getMessage());
+            for (Long productId : batch) {
+                complete(productId, null, e);
+            }
+        }
+    }
+
+    private void complete(Long productId, ProductCatalogClient.ProductPrice price, Throwable failure) {
+        CompletableFuture<ProductCatalogClient.ProductPrice> future = inFlight.remove(productId);
+        if (future == null) {
+            return;
+        }
+        if (failure != null) {
+            future.completeExceptionally(failure);
+        } else {
+            future.complete(price);
+        }
+    }
+}
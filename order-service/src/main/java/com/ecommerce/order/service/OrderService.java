@@ -1,21 +1,50 @@
 package com.ecommerce.order.service;
 
+import com.ecommerce.order.client.ProductCatalogClient;
 import com.ecommerce.order.dto.OrderDto;
 import com.ecommerce.order.entity.Order;
 import com.ecommerce.order.entity.OrderItem;
+import com.ecommerce.order.exception.BulkRequestTooLargeException;
+import com.ecommerce.order.exception.InvalidCursorException;
 import com.ecommerce.order.exception.OrderNotFoundException;
 import com.ecommerce.order.exception.OrderAlreadyExistsException;
+import com.ecommerce.order.exception.PricingUnavailableException;
+import com.ecommerce.order.exception.UnknownProductException;
 import com.ecommerce.order.mapper.OrderMapper;
 import com.ecommerce.order.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Service class for Order business logic.
@@ -28,8 +57,42 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class OrderService {
 
+    /**
+     * Page size used when the client does not request a valid one.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    /**
+     * Upper bound on the page size of any list request.
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    /**
+     * Number of orders loaded with their items, written and flushed per export chunk.
+     */
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
+    /**
+     * Number of orders flushed per round trip during bulk creation; matches hibernate.jdbc.batch_size.
+     */
+    private static final int BULK_BATCH_SIZE = 50;
+
+    /**
+     * Maximum number of values bound into a single IN clause.
+     */
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final OrderStatisticsEngine statisticsEngine;
+    private final Validator validator;
+    private final OrderPricingService orderPricingService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${order.bulk.max-size:1000}")
+    private int bulkMaxSize;
 
     /**
      * Create a new order.
@@ -37,17 +100,21 @@ public class OrderService {
      * @param orderDto the order data
      * @return the created order
      * @throws OrderAlreadyExistsException if an order with the same order number already exists
+     * @throws UnknownProductException if an item references a product that does not exist
+     * @throws PricingUnavailableException if item prices cannot be fetched
      */
     @Transactional
     public OrderDto createOrder(OrderDto orderDto) {
         log.info("Creating new order for customer: {}", orderDto.getCustomerEmail());
 
+        Order order = orderMapper.toEntity(orderDto);
+        // Price before the first query so no pooled connection is held during the remote call
+        orderPricingService.price(order);
+
         if (orderRepository.existsByOrderNumber(orderDto.getOrderNumber())) {
             throw new OrderAlreadyExistsException("Order with number " + orderDto.getOrderNumber() + " already exists");
         }
 
-        Order order = orderMapper.toEntity(orderDto);
-        
         if (order.getOrderNumber() == null) {
             order.setOrderNumber(generateUniqueOrderNumber());
         }
@@ -55,11 +122,102 @@ public class OrderService {
         calculateOrderTotal(order);
         
         Order savedOrder = orderRepository.save(order);
+        statisticsEngine.recordCreated(savedOrder.getStatus(), savedOrder.getTotalAmount());
         log.info("Order created successfully with ID: {}", savedOrder.getId());
 
         return orderMapper.toDto(savedOrder);
     }
 
+    /**
+     * Create a batch of orders in one transaction.
+     * Every order and its items are validated and checked for order-number uniqueness before anything
+     * is written; valid orders are inserted with JDBC batching and the rest are reported as rejected.
+     * 
+     * @param orderDtos the orders to create
+     * @return one result per submitted order, in request order
+     * @throws BulkRequestTooLargeException if the batch holds more orders than order.bulk.max-size
+     * @throws PricingUnavailableException if item prices cannot be fetched
+     */
+    @Transactional
+    public List<BulkOrderResult> createOrders(List<OrderDto> orderDtos) {
+        log.info("Bulk creating {} orders", orderDtos.size());
+
+        if (orderDtos.size() > bulkMaxSize) {
+            throw new BulkRequestTooLargeException("Bulk request contains " + orderDtos.size()
+                    + " orders; at most " + bulkMaxSize + " are accepted per request");
+        }
+
+        BulkOrderResult[] results = new BulkOrderResult[orderDtos.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < orderDtos.size(); i++) {
+            OrderDto orderDto = orderDtos.get(i);
+            Set<ConstraintViolation<OrderDto>> violations = validator.validate(orderDto);
+            if (!violations.isEmpty()) {
+                results[i] = BulkOrderResult.rejected(i, orderDto.getOrderNumber(), BulkOrderOutcome.INVALID,
+                        violations.stream()
+                                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                                .sorted()
+                                .collect(Collectors.joining("; ")));
+            } else if (candidates.putIfAbsent(orderDto.getOrderNumber(), i) != null) {
+                results[i] = BulkOrderResult.rejected(i, orderDto.getOrderNumber(), BulkOrderOutcome.DUPLICATE,
+                        "Order number " + orderDto.getOrderNumber() + " appears more than once in the batch");
+            }
+        }
+
+        Map<Integer, Order> mappedOrders = new LinkedHashMap<>();
+        candidates.forEach((orderNumber, index) -> mappedOrders.put(index, orderMapper.toEntity(orderDtos.get(index))));
+        // Price before the first query so no pooled connection is held during the remote call
+        Map<Long, ProductCatalogClient.ProductPrice> prices = orderPricingService.lookupPrices(mappedOrders.values());
+
+        Set<String> existingNumbers = findExistingOrderNumbers(candidates.keySet());
+        candidates.forEach((orderNumber, index) -> {
+            if (existingNumbers.contains(orderNumber)) {
+                results[index] = BulkOrderResult.rejected(index, orderNumber, BulkOrderOutcome.DUPLICATE,
+                        "Order with number " + orderNumber + " already exists");
+                mappedOrders.remove(index);
+            }
+        });
+
+        List<Order> newOrders = new ArrayList<>(mappedOrders.size());
+        List<Integer> newOrderIndexes = new ArrayList<>(mappedOrders.size());
+        mappedOrders.forEach((index, order) -> {
+            try {
+                orderPricingService.applyPrices(order, prices);
+            } catch (UnknownProductException e) {
+                results[index] = BulkOrderResult.rejected(index, order.getOrderNumber(), BulkOrderOutcome.INVALID,
+                        e.getMessage());
+                return;
+            }
+            calculateOrderTotal(order);
+            String itemViolations = validateItems(order);
+            if (itemViolations != null) {
+                results[index] = BulkOrderResult.rejected(index, order.getOrderNumber(), BulkOrderOutcome.INVALID,
+                        itemViolations);
+                return;
+            }
+            newOrders.add(order);
+            newOrderIndexes.add(index);
+        });
+
+        for (int start = 0; start < newOrders.size(); start += BULK_BATCH_SIZE) {
+            orderRepository.saveAll(newOrders.subList(start, Math.min(start + BULK_BATCH_SIZE, newOrders.size())));
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        for (int i = 0; i < newOrders.size(); i++) {
+            Order order = newOrders.get(i);
+            int index = newOrderIndexes.get(i);
+            statisticsEngine.recordCreated(order.getStatus(), order.getTotalAmount());
+            results[index] = new BulkOrderResult(index, order.getOrderNumber(), order.getId(),
+                    BulkOrderOutcome.CREATED, null);
+        }
+
+        log.info("Bulk order creation finished: {} created, {} rejected",
+                newOrders.size(), orderDtos.size() - newOrders.size());
+        return Arrays.asList(results);
+    }
+
     /**
      * Get an order by ID.
      * 
@@ -67,6 +225,7 @@ public class OrderService {
      * @return the order
      * @throws OrderNotFoundException if the order is not found
      */
+    @Transactional(readOnly = true)
     public OrderDto getOrderById(Long id) {
         log.debug("Fetching order with ID: {}", id);
         
@@ -83,6 +242,7 @@ public class OrderService {
      * @return the order
      * @throws OrderNotFoundException if the order is not found
      */
+    @Transactional(readOnly = true)
     public OrderDto getOrderByOrderNumber(String orderNumber) {
         log.debug("Fetching order with order number: {}", orderNumber);
         
@@ -93,82 +253,163 @@ public class OrderService {
     }
 
     /**
-     * Get all orders.
+     * Get a page of all orders.
      * 
-     * @return list of all orders
+     * @param cursor the continuation cursor from the previous page, or null for the first page
+     * @param size the requested page size
+     * @return a page of orders
      */
-    public List<OrderDto> getAllOrders() {
-        log.debug("Fetching all orders");
+    @Transactional(readOnly = true)
+    public OrderPage getAllOrders(String cursor, int size) {
+        log.debug("Fetching all orders after cursor: {}", cursor);
         
-        List<Order> orders = orderRepository.findAll();
-        return orderMapper.toDtoList(orders);
+        int pageSize = normalizePageSize(size);
+        List<Order> orders = orderRepository.findByIdGreaterThanOrderByIdAsc(decodeCursor(cursor), lookAhead(pageSize));
+        return toPage(orders, pageSize);
     }
 
     /**
-     * Get orders by customer email.
+     * Get a page of orders by customer email.
      * 
      * @param customerEmail the customer email
-     * @return list of orders for the customer
+     * @param cursor the continuation cursor from the previous page, or null for the first page
+     * @param size the requested page size
+     * @return a page of orders for the customer
      */
-    public List<OrderDto> getOrdersByCustomerEmail(String customerEmail) {
-        log.debug("Fetching orders for customer email: {}", customerEmail);
+    @Transactional(readOnly = true)
+    public OrderPage getOrdersByCustomerEmail(String customerEmail, String cursor, int size) {
+        log.debug("Fetching orders for customer email: {} after cursor: {}", customerEmail, cursor);
         
-        List<Order> orders = orderRepository.findByCustomerEmail(customerEmail);
-        return orderMapper.toDtoList(orders);
+        int pageSize = normalizePageSize(size);
+        List<Order> orders = orderRepository.findByCustomerEmailAndIdGreaterThanOrderByIdAsc(
+                customerEmail, decodeCursor(cursor), lookAhead(pageSize));
+        return toPage(orders, pageSize);
     }
 
     /**
-     * Get orders by status.
+     * Get a page of orders by status.
      * 
      * @param status the order status
-     * @return list of orders with the specified status
+     * @param cursor the continuation cursor from the previous page, or null for the first page
+     * @param size the requested page size
+     * @return a page of orders with the specified status
      */
-    public List<OrderDto> getOrdersByStatus(Order.OrderStatus status) {
-        log.debug("Fetching orders with status: {}", status);
+    @Transactional(readOnly = true)
+    public OrderPage getOrdersByStatus(Order.OrderStatus status, String cursor, int size) {
+        log.debug("Fetching orders with status: {} after cursor: {}", status, cursor);
         
-        List<Order> orders = orderRepository.findByStatus(status);
-        return orderMapper.toDtoList(orders);
+        int pageSize = normalizePageSize(size);
+        List<Order> orders = orderRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                status, decodeCursor(cursor), lookAhead(pageSize));
+        return toPage(orders, pageSize);
     }
 
     /**
-     * Get orders by customer email and status.
+     * Get a page of orders by customer email and status.
      * 
      * @param customerEmail the customer email
      * @param status the order status
-     * @return list of orders matching both criteria
+     * @param cursor the continuation cursor from the previous page, or null for the first page
+     * @param size the requested page size
+     * @return a page of orders matching both criteria
      */
-    public List<OrderDto> getOrdersByCustomerEmailAndStatus(String customerEmail, Order.OrderStatus status) {
-        log.debug("Fetching orders for customer email: {} with status: {}", customerEmail, status);
+    @Transactional(readOnly = true)
+    public OrderPage getOrdersByCustomerEmailAndStatus(String customerEmail, Order.OrderStatus status,
+                                                       String cursor, int size) {
+        log.debug("Fetching orders for customer email: {} with status: {} after cursor: {}", customerEmail, status, cursor);
         
-        List<Order> orders = orderRepository.findByCustomerEmailAndStatus(customerEmail, status);
-        return orderMapper.toDtoList(orders);
+        int pageSize = normalizePageSize(size);
+        List<Order> orders = orderRepository.findByCustomerEmailAndStatusAndIdGreaterThanOrderByIdAsc(
+                customerEmail, status, decodeCursor(cursor), lookAhead(pageSize));
+        return toPage(orders, pageSize);
     }
 
     /**
-     * Get orders created within a date range.
+     * Get a page of orders created within a date range.
      * 
      * @param startDate the start date
      * @param endDate the end date
-     * @return list of orders created within the date range
+     * @param cursor the continuation cursor from the previous page, or null for the first page
+     * @param size the requested page size
+     * @return a page of orders created within the date range
      */
-    public List<OrderDto> getOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        log.debug("Fetching orders between {} and {}", startDate, endDate);
+    @Transactional(readOnly = true)
+    public OrderPage getOrdersByDateRange(LocalDateTime startDate, LocalDateTime endDate, String cursor, int size) {
+        log.debug("Fetching orders between {} and {} after cursor: {}", startDate, endDate, cursor);
         
-        List<Order> orders = orderRepository.findByCreatedAtBetween(startDate, endDate);
-        return orderMapper.toDtoList(orders);
+        int pageSize = normalizePageSize(size);
+        List<Order> orders = orderRepository.findByCreatedAtBetweenAfterId(
+                startDate, endDate, decodeCursor(cursor), lookAhead(pageSize));
+        return toPage(orders, pageSize);
     }
 
     /**
-     * Search orders by customer name.
+     * Search a page of orders by customer name.
      * 
      * @param customerName the customer name fragment to search for
-     * @return list of matching orders
+     * @param cursor the continuation cursor from the previous page, or null for the first page
+     * @param size the requested page size
+     * @return a page of matching orders
      */
-    public List<OrderDto> searchOrdersByCustomerName(String customerName) {
-        log.debug("Searching orders by customer name: {}", customerName);
+    @Transactional(readOnly = true)
+    public OrderPage searchOrdersByCustomerName(String customerName, String cursor, int size) {
+        log.debug("Searching orders by customer name: {} after cursor: {}", customerName, cursor);
         
-        List<Order> orders = orderRepository.findByCustomerNameContainingIgnoreCase(customerName);
-        return orderMapper.toDtoList(orders);
+        int pageSize = normalizePageSize(size);
+        List<Order> orders = orderRepository.findByCustomerNameContainingIgnoreCaseAndIdGreaterThanOrderByIdAsc(
+                customerName, decodeCursor(cursor), lookAhead(pageSize));
+        return toPage(orders, pageSize);
+    }
+
+    /**
+     * Export all orders as newline-delimited JSON.
+     * Orders are read in keyset chunks, each in its own short read-only transaction that loads
+     * the chunk's IDs and then the orders with their items, and maps them to DTOs. The connection
+     * goes back to the pool before the chunk is written, so a slow client never holds one, and
+     * memory use stays flat regardless of table size. Orders committed while the export runs are
+     * included if their ID is beyond the chunks already read.
+     * 
+     * @param outputStream the stream to write to
+     * @return the number of exported orders
+     */
+    public long exportOrders(OutputStream outputStream) {
+        log.info("Exporting all orders as NDJSON");
+
+        Runtime runtime = Runtime.getRuntime();
+        long startNanos = System.nanoTime();
+        long peakHeap = runtime.totalMemory() - runtime.freeMemory();
+        long exported = 0;
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        BufferedOutputStream out = new BufferedOutputStream(outputStream);
+        long lastId = 0;
+        try {
+            List<OrderDto> chunk;
+            do {
+                long afterId = lastId;
+                chunk = readOnly.execute(status -> {
+                    List<Long> ids = orderRepository.findIdsAfter(afterId, PageRequest.ofSize(EXPORT_CHUNK_SIZE));
+                    return ids.isEmpty() ? List.of() : orderMapper.toDtoList(findWithItems(ids));
+                });
+                for (OrderDto order : chunk) {
+                    out.write(objectMapper.writeValueAsBytes(order));
+                    out.write('\n');
+                    exported++;
+                    lastId = order.getId();
+                }
+                out.flush();
+                peakHeap = Math.max(peakHeap, runtime.totalMemory() - runtime.freeMemory());
+            } while (chunk.size() == EXPORT_CHUNK_SIZE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Order export aborted after " + exported + " rows", e);
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        peakHeap = Math.max(peakHeap, runtime.totalMemory() - runtime.freeMemory());
+        log.info("Exported {} orders in {} ms ({} rows/sec, peak heap {} MB)",
+                exported, elapsedMillis, exported * 1000 / elapsedMillis, peakHeap / (1024 * 1024));
+        return exported;
     }
 
     /**
@@ -193,10 +434,14 @@ public class OrderService {
             }
         }
 
+        Order.OrderStatus oldStatus = existingOrder.getStatus();
+        BigDecimal oldAmount = existingOrder.getTotalAmount();
+
         orderMapper.updateEntity(existingOrder, orderDto);
         calculateOrderTotal(existingOrder);
         
         Order updatedOrder = orderRepository.save(existingOrder);
+        statisticsEngine.recordChanged(oldStatus, oldAmount, updatedOrder.getStatus(), updatedOrder.getTotalAmount());
         
         log.info("Order updated successfully with ID: {}", updatedOrder.getId());
         return orderMapper.toDto(updatedOrder);
@@ -217,8 +462,10 @@ public class OrderService {
         Order order = orderRepository.findById(id)
                 .orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + id));
 
+        Order.OrderStatus oldStatus = order.getStatus();
         order.setStatus(status);
         Order updatedOrder = orderRepository.save(order);
+        statisticsEngine.recordChanged(oldStatus, updatedOrder.getTotalAmount(), status, updatedOrder.getTotalAmount());
         
         log.info("Order status updated successfully for ID: {}", id);
         return orderMapper.toDto(updatedOrder);
@@ -234,47 +481,185 @@ public class OrderService {
     public void deleteOrder(Long id) {
         log.info("Deleting order with ID: {}", id);
 
-        if (!orderRepository.existsById(id)) {
-            throw new OrderNotFoundException("Order not found with ID: " + id);
-        }
+        Order order = orderRepository.findById(id)
+                .orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + id));
 
-        orderRepository.deleteById(id);
+        orderRepository.delete(order);
+        statisticsEngine.recordDeleted(order.getStatus(), order.getTotalAmount());
         log.info("Order deleted successfully with ID: {}", id);
     }
 
     /**
      * Get order statistics.
+     * Served from incrementally maintained in-memory counters without querying the database.
      * 
      * @return order statistics
      */
     public OrderStatistics getOrderStatistics() {
         log.debug("Fetching order statistics");
         
-        long totalOrders = orderRepository.count();
-        long pendingOrders = orderRepository.countByStatus(Order.OrderStatus.PENDING);
-        long confirmedOrders = orderRepository.countByStatus(Order.OrderStatus.CONFIRMED);
-        long shippedOrders = orderRepository.countByStatus(Order.OrderStatus.SHIPPED);
-        long deliveredOrders = orderRepository.countByStatus(Order.OrderStatus.DELIVERED);
-        long cancelledOrders = orderRepository.countByStatus(Order.OrderStatus.CANCELLED);
-
-        return new OrderStatistics(totalOrders, pendingOrders, confirmedOrders, 
-                                shippedOrders, deliveredOrders, cancelledOrders);
+        return statisticsEngine.snapshot();
     }
 
     /**
-     * Calculate the total amount for an order based on its items.
+     * Find which order numbers already exist, querying in bounded IN-list chunks.
+     * 
+     * @param orderNumbers the order numbers to check
+     * @return the order numbers that are already taken
+     */
+    private Set<String> findExistingOrderNumbers(Collection<String> orderNumbers) {
+        Set<String> existing = new HashSet<>();
+        List<String> numbers = new ArrayList<>(orderNumbers);
+        for (int start = 0; start < numbers.size(); start += IN_CLAUSE_CHUNK_SIZE) {
+            existing.addAll(orderRepository.findExistingOrderNumbers(
+                    numbers.subList(start, Math.min(start + IN_CLAUSE_CHUNK_SIZE, numbers.size()))));
+        }
+        return existing;
+    }
+
+    /**
+     * Calculate the total price of each item and the total amount of the order.
+     * Item totals are derived from unit price and quantity, the same way they are stored.
      * 
      * @param order the order to calculate total for
      */
-    private void calculateOrderTotal(Order order) {
+    static void calculateOrderTotal(Order order) {
         if (order.getOrderItems() != null) {
-            BigDecimal total = order.getOrderItems().stream()
-                    .map(OrderItem::getTotalPrice)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal total = BigDecimal.ZERO;
+            for (OrderItem item : order.getOrderItems()) {
+                if (item.getUnitPrice() != null && item.getQuantity() != null) {
+                    item.setTotalPrice(item.getUnitPrice().multiply(BigDecimal.valueOf(item.getQuantity())));
+                }
+                if (item.getTotalPrice() != null) {
+                    total = total.add(item.getTotalPrice());
+                }
+            }
             order.setTotalAmount(total);
         }
     }
 
+    /**
+     * Validate the priced items of an order against the entity constraints,
+     * so an invalid item is reported before anything is flushed.
+     * 
+     * @param order the priced order
+     * @return the violations joined into one message, or null if every item is valid
+     */
+    private String validateItems(Order order) {
+        if (order.getOrderItems() == null) {
+            return null;
+        }
+        List<String> messages = new ArrayList<>();
+        for (int i = 0; i < order.getOrderItems().size(); i++) {
+            for (ConstraintViolation<OrderItem> violation : validator.validate(order.getOrderItems().get(i))) {
+                messages.add("orderItems[" + i + "]." + violation.getPropertyPath() + ": " + violation.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return null;
+        }
+        messages.sort(null);
+        return String.join("; ", messages);
+    }
+
+    /**
+     * Clamp a requested page size to the allowed range.
+     * 
+     * @param size the requested page size
+     * @return the effective page size
+     */
+    private int normalizePageSize(int size) {
+        if (size < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Build a page request that fetches one row more than the page size,
+     * so the presence of a next page is known without a count query.
+     * 
+     * @param pageSize the effective page size
+     * @return the page request
+     */
+    private Pageable lookAhead(int pageSize) {
+        return PageRequest.ofSize(pageSize + 1);
+    }
+
+    /**
+     * Convert a look-ahead result into a page of DTOs with its continuation cursor.
+     * 
+     * @param orders the orders fetched with one row of look-ahead
+     * @param pageSize the effective page size
+     * @return the page of orders
+     */
+    private OrderPage toPage(List<Order> orders, int pageSize) {
+        boolean hasNext = orders.size() > pageSize;
+        List<Order> content = hasNext ? orders.subList(0, pageSize) : orders;
+        String nextCursor = hasNext ? encodeCursor(content.get(content.size() - 1).getId()) : null;
+        return new OrderPage(orderMapper.toDtoList(withItems(content)), nextCursor);
+    }
+
+    /**
+     * Load the items of a page of orders with one fetch-join query, so mapping never triggers a lazy load.
+     * The keyset query itself cannot fetch the collection without paginating in memory.
+     * 
+     * @param orders the orders of the page, in page order
+     * @return the same orders with initialized items, in page order
+     */
+    private List<Order> withItems(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        Map<Long, Order> fetched = orderRepository.findWithItemsByIdIn(orders.stream().map(Order::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Order::getId, order -> order, (first, second) -> first));
+        return orders.stream()
+                .map(order -> fetched.getOrDefault(order.getId(), order))
+                .toList();
+    }
+
+    /**
+     * Load orders with their items in one fetch-join query.
+     * 
+     * @param ids the order IDs
+     * @return the orders with initialized items, in ID order
+     */
+    private List<Order> findWithItems(List<Long> ids) {
+        List<Order> orders = new ArrayList<>(orderRepository.findWithItemsByIdIn(ids));
+        orders.sort(Comparator.comparing(Order::getId));
+        return orders;
+    }
+
+    /**
+     * Encode the last seen order ID into an opaque cursor.
+     * 
+     * @param lastId the ID of the last order on the page
+     * @return the cursor string
+     */
+    private String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode an opaque cursor into the last seen order ID.
+     * 
+     * @param cursor the cursor string, or null for the first page
+     * @return the ID after which the next page starts
+     * @throws InvalidCursorException if the cursor is malformed
+     */
+    private Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid pagination cursor: " + cursor, e);
+        }
+    }
+
     /**
      * Generate a unique order number.
      * 
@@ -284,10 +669,38 @@ public class OrderService {
         return "ORD-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
 
+    /**
+     * DTO for a keyset-paginated slice of orders.
+     */
+    public record OrderPage(List<OrderDto> orders, String nextCursor) {
+    }
+
+    /**
+     * Outcome of a single order within a bulk create request.
+     */
+    public enum BulkOrderOutcome {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+
+    /**
+     * DTO for the result of a single order within a bulk create request.
+     */
+    public record BulkOrderResult(int index, String orderNumber, Long id, BulkOrderOutcome outcome, String message) {
+
+        static BulkOrderResult rejected(int index, String orderNumber, BulkOrderOutcome outcome, String message) {
+            return new BulkOrderResult(index, orderNumber, null, outcome, message);
+        }
+    }
+
     /**
      * DTO for order statistics.
      */
     public record OrderStatistics(long totalOrders, long pendingOrders, long confirmedOrders, 
-                                 long shippedOrders, long deliveredOrders, long cancelledOrders) {
+                                 long shippedOrders, long deliveredOrders, long cancelledOrders,
+                                 BigDecimal totalRevenue, Map<Order.OrderStatus, BigDecimal> revenueByStatus) {
     }
+
+
 }
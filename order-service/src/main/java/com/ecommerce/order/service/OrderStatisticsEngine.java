@@ -0,0 +1,282 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.entity.Order;
+import com.ecommerce.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory order statistics maintained incrementally from order writes.
+ * Counters are built from the database before the web server starts, updated with the
+ * deltas of each committed transaction and periodically reconciled against the database.
+ * A transaction holds the read side of a snapshot lock from just before it commits until its
+ * deltas are applied, and rebuilds take the write side while they read the database, so every
+ * commit is counted either by the database read or by its delta, never both and never neither.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderStatisticsEngine implements SmartInitializingSingleton {
+
+    private final OrderRepository orderRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final Map<Order.OrderStatus, LongAdder> orderCounts = newAdders();
+    private final Map<Order.OrderStatus, LongAdder> revenueCents = newAdders();
+    private final ReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
+    /**
+     * Record a newly created order.
+     * 
+     * @param status the order status
+     * @param totalAmount the order total
+     */
+    public void recordCreated(Order.OrderStatus status, BigDecimal totalAmount) {
+        record(status, totalAmount, 1);
+    }
+
+    /**
+     * Record a change of status or total on an existing order.
+     * 
+     * @param oldStatus the status before the change
+     * @param oldAmount the total before the change
+     * @param newStatus the status after the change
+     * @param newAmount the total after the change
+     */
+    public void recordChanged(Order.OrderStatus oldStatus, BigDecimal oldAmount,
+                              Order.OrderStatus newStatus, BigDecimal newAmount) {
+        record(oldStatus, oldAmount, -1);
+        record(newStatus, newAmount, 1);
+    }
+
+    /**
+     * Record a deleted order.
+     * 
+     * @param status the order status
+     * @param totalAmount the order total
+     */
+    public void recordDeleted(Order.OrderStatus status, BigDecimal totalAmount) {
+        record(status, totalAmount, -1);
+    }
+
+    /**
+     * Get the current statistics without touching the database.
+     * 
+     * @return order statistics
+     */
+    public OrderService.OrderStatistics snapshot() {
+        Map<Order.OrderStatus, Long> counts = new EnumMap<>(Order.OrderStatus.class);
+        Map<Order.OrderStatus, BigDecimal> revenue = new EnumMap<>(Order.OrderStatus.class);
+        long totalOrders = 0;
+        long totalCents = 0;
+        for (Order.OrderStatus status : Order.OrderStatus.values()) {
+            long count = orderCounts.get(status).sum();
+            long cents = revenueCents.get(status).sum();
+            counts.put(status, count);
+            revenue.put(status, BigDecimal.valueOf(cents, 2));
+            totalOrders += count;
+            totalCents += cents;
+        }
+
+        return new OrderService.OrderStatistics(totalOrders,
+                counts.get(Order.OrderStatus.PENDING),
+                counts.get(Order.OrderStatus.CONFIRMED),
+                counts.get(Order.OrderStatus.SHIPPED),
+                counts.get(Order.OrderStatus.DELIVERED),
+                counts.get(Order.OrderStatus.CANCELLED),
+                BigDecimal.valueOf(totalCents, 2),
+                revenue);
+    }
+
+    /**
+     * Build the counters once all beans exist, before the web server starts accepting requests.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * Rebuild all counters from the database.
+     */
+    public void rebuild() {
+        log.info("Rebuilding order statistics from database");
+
+        snapshotLock.writeLock().lock();
+        try {
+            Map<Order.OrderStatus, long[]> actual = loadFromDatabase();
+            for (Order.OrderStatus status : Order.OrderStatus.values()) {
+                long[] values = actual.get(status);
+                orderCounts.get(status).reset();
+                orderCounts.get(status).add(values[0]);
+                revenueCents.get(status).reset();
+                revenueCents.get(status).add(values[1]);
+            }
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Compare the counters with the database and correct any drift.
+     */
+    @Scheduled(initialDelayString = "${order.statistics.reconcile-interval:PT5M}",
+               fixedDelayString = "${order.statistics.reconcile-interval:PT5M}")
+    public void reconcile() {
+        log.debug("Reconciling order statistics with database");
+
+        snapshotLock.writeLock().lock();
+        try {
+            Map<Order.OrderStatus, long[]> actual = loadFromDatabase();
+            for (Order.OrderStatus status : Order.OrderStatus.values()) {
+                long[] values = actual.get(status);
+                long countDrift = values[0] - orderCounts.get(status).sum();
+                long centsDrift = values[1] - revenueCents.get(status).sum();
+                if (countDrift != 0 || centsDrift != 0) {
+                    log.warn("Order statistics drift for status {}: count {}, revenue {}",
+                            status, countDrift, BigDecimal.valueOf(centsDrift, 2));
+                    orderCounts.get(status).add(countDrift);
+                    revenueCents.get(status).add(centsDrift);
+                }
+            }
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Load count and revenue in cents per status with a single grouped query.
+     * Runs in a read-write transaction so it reads the primary database, never a lagging replica.
+     * 
+     * @return map of status to {count, revenue in cents}
+     */
+    private Map<Order.OrderStatus, long[]> loadFromDatabase() {
+        Map<Order.OrderStatus, long[]> values = new EnumMap<>(Order.OrderStatus.class);
+        for (Order.OrderStatus status : Order.OrderStatus.values()) {
+            values.put(status, new long[2]);
+        }
+        List<OrderRepository.StatusSummary> summaries =
+                new TransactionTemplate(transactionManager).execute(status -> orderRepository.summarizeByStatus());
+        for (OrderRepository.StatusSummary summary : summaries) {
+            values.put(summary.getStatus(), new long[] {summary.getOrderCount(), toCents(summary.getRevenue())});
+        }
+        return values;
+    }
+
+    /**
+     * Record a signed delta for one order. Inside a transaction the delta is collected and applied
+     * when the transaction commits; otherwise it is applied immediately.
+     * 
+     * @param status the order status
+     * @param amount the order total
+     * @param sign +1 to add the order, -1 to remove it
+     */
+    private void record(Order.OrderStatus status, BigDecimal amount, int sign) {
+        if (status == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            snapshotLock.readLock().lock();
+            try {
+                apply(status, toCents(amount), sign);
+            } finally {
+                snapshotLock.readLock().unlock();
+            }
+            return;
+        }
+
+        PendingDeltas pending = (PendingDeltas) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingDeltas();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.add(status, toCents(amount), sign);
+    }
+
+    /**
+     * Apply a signed delta for one order to the counters of its status.
+     * 
+     * @param status the order status
+     * @param cents the order total in cents
+     * @param sign +1 to add the order, -1 to remove it
+     */
+    private void apply(Order.OrderStatus status, long cents, int sign) {
+        orderCounts.get(status).add(sign);
+        revenueCents.get(status).add(sign * cents);
+    }
+
+    private static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static Map<Order.OrderStatus, LongAdder> newAdders() {
+        Map<Order.OrderStatus, LongAdder> adders = new EnumMap<>(Order.OrderStatus.class);
+        for (Order.OrderStatus status : Order.OrderStatus.values()) {
+            adders.put(status, new LongAdder());
+        }
+        return adders;
+    }
+
+    /**
+     * Counter deltas recorded by one transaction. The snapshot read lock is taken before the
+     * transaction commits and released once the deltas are applied, so a rebuild never reads
+     * the database between a commit and the application of its deltas.
+     */
+    private class PendingDeltas implements TransactionSynchronization {
+
+        private final long[] counts = new long[Order.OrderStatus.values().length];
+        private final long[] cents = new long[Order.OrderStatus.values().length];
+        private boolean locked;
+
+        void add(Order.OrderStatus status, long amountCents, int sign) {
+            counts[status.ordinal()] += sign;
+            cents[status.ordinal()] += sign * amountCents;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            snapshotLock.readLock().lock();
+            locked = true;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(OrderStatisticsEngine.this);
+            if (!locked) {
+                return;
+            }
+            try {
+                if (status == STATUS_COMMITTED) {
+                    for (Order.OrderStatus orderStatus : Order.OrderStatus.values()) {
+                        orderCounts.get(orderStatus).add(counts[orderStatus.ordinal()]);
+                        revenueCents.get(orderStatus).add(cents[orderStatus.ordinal()]);
+                    }
+                }
+            } finally {
+                snapshotLock.readLock().unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+-- Order Service schema
+
+CREATE SEQUENCE orders_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE order_items_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE orders (
+    id               BIGINT         NOT NULL PRIMARY KEY,
+    order_number     VARCHAR(50)    NOT NULL,
+    customer_name    VARCHAR(100)   NOT NULL,
+    customer_email   VARCHAR(100)   NOT NULL,
+    total_amount     NUMERIC(10, 2) NOT NULL,
+    status           VARCHAR(20)    NOT NULL,
+    shipping_address VARCHAR(500),
+    created_at       TIMESTAMP(6)   NOT NULL,
+    updated_at       TIMESTAMP(6),
+    CONSTRAINT uk_orders_order_number UNIQUE (order_number)
+);
+
+CREATE TABLE order_items (
+    id           BIGINT         NOT NULL PRIMARY KEY,
+    product_id   BIGINT         NOT NULL,
+    product_name VARCHAR(100)   NOT NULL,
+    quantity     INTEGER        NOT NULL,
+    unit_price   NUMERIC(10, 2) NOT NULL,
+    total_price  NUMERIC(10, 2) NOT NULL,
+    order_id     BIGINT         NOT NULL,
+    CONSTRAINT fk_order_items_order FOREIGN KEY (order_id) REFERENCES orders (id)
+);
+
+-- findByCustomerEmail, customer keyset pages
+CREATE INDEX idx_orders_customer_email_id ON orders (customer_email, id);
+-- findByCustomerEmailAndStatus, customer/status keyset pages
+CREATE INDEX idx_orders_customer_email_status_id ON orders (customer_email, status, id);
+-- findByStatus, countByStatus, summarizeByStatus, status keyset pages
+CREATE INDEX idx_orders_status_id ON orders (status, id);
+-- findByCreatedAtBetween and its keyset variant
+CREATE INDEX idx_orders_created_at ON orders (created_at);
+-- Order items fetched with their order
+CREATE INDEX idx_order_items_order_id ON order_items (order_id);
@@ -0,0 +1,52 @@
+package com.ecommerce.order.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies the product-service batch lookup client against a stub server.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+class ProductCatalogClientTest {
+
+    private static final ProductCatalogClient.ProductPrice WIDGET =
+            new ProductCatalogClient.ProductPrice(1L, "Widget", new BigDecimal("9.99"));
+
+    private StubProductService stub;
+
+    @AfterEach
+    void tearDown() {
+        stub.close();
+    }
+
+    @Test
+    void getPricesSendsOneRequestAndSkipsUnknownProducts() {
+        stub = StubProductService.start(Map.of(1L, WIDGET), Duration.ZERO);
+        ProductCatalogClient client = new ProductCatalogClient(RestClient.builder(), stub.baseUrl(), Duration.ofSeconds(2));
+
+        Map<Long, ProductCatalogClient.ProductPrice> prices = client.getPrices(List.of(1L, 2L));
+
+        assertThat(prices).containsExactly(Map.entry(1L, WIDGET));
+        assertThat(stub.requests()).containsExactly(List.of(1L, 2L));
+    }
+
+    @Test
+    void getPricesFailsWhenProductServiceIsSlowerThanTheTimeout() {
+        stub = StubProductService.start(Map.of(1L, WIDGET), Duration.ofSeconds(2));
+        ProductCatalogClient client = new ProductCatalogClient(RestClient.builder(), stub.baseUrl(), Duration.ofMillis(100));
+
+        assertThatThrownBy(() -> client.getPrices(List.of(1L))).isInstanceOf(ResourceAccessException.class);
+    }
+}
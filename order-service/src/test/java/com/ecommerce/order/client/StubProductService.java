@@ -0,0 +1,114 @@
+package com.ecommerce.order.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process stand-in for the product-service batch lookup endpoint, answering
+ * {@code POST /api/v1/products/batch/ids} from a fixed catalog after a configurable delay.
+ * Records the IDs of every request it receives.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+public final class StubProductService implements AutoCloseable {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final Map<Long, ProductCatalogClient.ProductPrice> catalog;
+    private final Duration latency;
+    private final List<List<Long>> requests = new CopyOnWriteArrayList<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final HttpServer server;
+
+    private StubProductService(Map<Long, ProductCatalogClient.ProductPrice> catalog, Duration latency) {
+        this.catalog = catalog;
+        this.latency = latency;
+        try {
+            this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start stub product-service", e);
+        }
+        server.createContext("/api/v1/products/batch/ids", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * Start a stub serving the given products.
+     * 
+     * @param catalog the known products by ID
+     * @param latency how long each request is delayed before it is answered
+     * @return the running stub
+     */
+    public static StubProductService start(Map<Long, ProductCatalogClient.ProductPrice> catalog, Duration latency) {
+        return new StubProductService(catalog, latency);
+    }
+
+    /**
+     * Get the base URL to configure the client with.
+     * 
+     * @return the base URL
+     */
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Get the product IDs of every request received so far, in arrival order.
+     * 
+     * @return the requested IDs per request
+     */
+    public List<List<Long>> requests() {
+        return new ArrayList<>(requests);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        List<Long> ids = OBJECT_MAPPER.readValue(exchange.getRequestBody(), new TypeReference<List<Long>>() {
+        });
+        requests.add(ids);
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+            return;
+        }
+
+        List<Map<String, Object>> lookups = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Map<String, Object> lookup = new LinkedHashMap<>();
+            lookup.put("key", id);
+            lookup.put("found", catalog.containsKey(id));
+            lookup.put("product", catalog.get(id));
+            lookups.add(lookup);
+        }
+        byte[] body = OBJECT_MAPPER.writeValueAsBytes(lookups);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
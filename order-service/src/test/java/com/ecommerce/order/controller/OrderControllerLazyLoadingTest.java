@@ -0,0 +1,135 @@
+package com.ecommerce.order.controller;
+
+import com.ecommerce.order.entity.Order;
+import com.ecommerce.order.entity.OrderItem;
+import com.ecommerce.order.repository.OrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.LazyInitializationException;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that with open-session-in-view disabled a lazy load outside a transaction fails,
+ * and that the order endpoints still serialize order items because the services fetch them
+ * with the orderItems entity graph before the transaction ends.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class OrderControllerLazyLoadingTest {
+
+    private static final String EMAIL = "lazy@example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long orderId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        orderId = transactionTemplate.execute(status -> orderRepository.save(order()).getId());
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    @Test
+    void lazyItemsFailOutsideTransaction() {
+        Order order = orderRepository.findByCustomerEmail(EMAIL).get(0);
+
+        assertThat(Hibernate.isInitialized(order.getOrderItems())).isFalse();
+        assertThatThrownBy(() -> order.getOrderItems().size()).isInstanceOf(LazyInitializationException.class);
+    }
+
+    @Test
+    void entityGraphInitializesItemsOutsideTransaction() {
+        Order order = orderRepository.findById(orderId).orElseThrow();
+
+        assertThat(Hibernate.isInitialized(order.getOrderItems())).isTrue();
+        assertThat(order.getOrderItems()).extracting(OrderItem::getProductName).containsExactlyInAnyOrder("Pen", "Ink");
+    }
+
+    @Test
+    void getOrderByIdSerializesItemsFetchedWithTheOrder() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/{id}", orderId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orderItems.length()").value(2))
+                .andExpect(jsonPath("$.orderItems[*].productName").value(containsInAnyOrder("Pen", "Ink")));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void orderPageSerializesItemsFetchedWithOneExtraQuery() throws Exception {
+        mockMvc.perform(get("/api/v1/orders/customer/{customerEmail}", EMAIL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].orderItems.length()").value(2));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private static Order order() {
+        Order order = Order.builder()
+                .orderNumber("LAZY-1")
+                .customerName("Lazy Customer")
+                .customerEmail(EMAIL)
+                .status(Order.OrderStatus.PENDING)
+                .totalAmount(new BigDecimal("7.50"))
+                .build();
+        order.setOrderItems(new ArrayList<>(List.of(item(order, 1L, "Pen", "2.50"), item(order, 2L, "Ink", "5.00"))));
+        return order;
+    }
+
+    private static OrderItem item(Order order, Long productId, String productName, String price) {
+        BigDecimal unitPrice = new BigDecimal(price);
+        return OrderItem.builder()
+                .productId(productId)
+                .productName(productName)
+                .quantity(1)
+                .unitPrice(unitPrice)
+                .totalPrice(unitPrice)
+                .order(order)
+                .build();
+    }
+}
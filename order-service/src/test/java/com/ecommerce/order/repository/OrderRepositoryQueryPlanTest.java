@@ -0,0 +1,141 @@
+package com.ecommerce.order.repository;
+
+import com.ecommerce.order.entity.Order;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every filtered {@link OrderRepository} query through H2's EXPLAIN and fails if any table
+ * in the plan is read with a full table scan. The SQL explained is the SQL Hibernate generated
+ * for the call, recorded by {@link RecordingStatementInspector}.
+ * <p>
+ * Not covered, because they read every row by design: the unfiltered {@code findAll},
+ * {@code summarizeByStatus} (aggregates the whole table), and the
+ * {@code CustomerNameContainingIgnoreCase} searches, whose leading wildcard no B-tree index can serve.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.ecommerce.order.repository.RecordingStatementInspector")
+class OrderRepositoryQueryPlanTest {
+
+    private static final String EMAIL = "customer@example.com";
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final LocalDateTime END = START.plusMonths(1);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void findByIdWithItems() {
+        assertNoTableScan(() -> orderRepository.findById(1L));
+    }
+
+    @Test
+    void findByOrderNumber() {
+        assertNoTableScan(() -> orderRepository.findByOrderNumber("ORD-1"));
+    }
+
+    @Test
+    void findWithItemsByIdIn() {
+        assertNoTableScan(() -> orderRepository.findWithItemsByIdIn(List.of(1L, 2L)));
+    }
+
+    @Test
+    void findByCustomerEmail() {
+        assertNoTableScan(() -> orderRepository.findByCustomerEmail(EMAIL));
+    }
+
+    @Test
+    void findByStatus() {
+        assertNoTableScan(() -> orderRepository.findByStatus(Order.OrderStatus.PENDING));
+    }
+
+    @Test
+    void findByCustomerEmailAndStatus() {
+        assertNoTableScan(() -> orderRepository.findByCustomerEmailAndStatus(EMAIL, Order.OrderStatus.PENDING));
+    }
+
+    @Test
+    void findByCreatedAtBetween() {
+        assertNoTableScan(() -> orderRepository.findByCreatedAtBetween(START, END));
+    }
+
+    @Test
+    void existsByOrderNumber() {
+        assertNoTableScan(() -> orderRepository.existsByOrderNumber("ORD-1"));
+    }
+
+    @Test
+    void findExistingOrderNumbers() {
+        assertNoTableScan(() -> orderRepository.findExistingOrderNumbers(Set.of("ORD-1", "ORD-2")));
+    }
+
+    @Test
+    void countByStatus() {
+        assertNoTableScan(() -> orderRepository.countByStatus(Order.OrderStatus.PENDING));
+    }
+
+    @Test
+    void keysetPages() {
+        PageRequest page = PageRequest.ofSize(20);
+        assertNoTableScan(() -> orderRepository.findByIdGreaterThanOrderByIdAsc(0L, page));
+        assertNoTableScan(() -> orderRepository.findIdsAfter(0L, page));
+        assertNoTableScan(() -> orderRepository.findByCustomerEmailAndIdGreaterThanOrderByIdAsc(EMAIL, 0L, page));
+        assertNoTableScan(() -> orderRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                Order.OrderStatus.PENDING, 0L, page));
+        assertNoTableScan(() -> orderRepository.findByCustomerEmailAndStatusAndIdGreaterThanOrderByIdAsc(
+                EMAIL, Order.OrderStatus.PENDING, 0L, page));
+        assertNoTableScan(() -> orderRepository.findByCreatedAtBetweenAfterId(START, END, 0L, page));
+    }
+
+    private void assertNoTableScan(Runnable query) {
+        RecordingStatementInspector.start();
+        query.run();
+        List<String> statements = RecordingStatementInspector.stop();
+
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            assertThat(explain(sql)).as(sql).doesNotContain(".tableScan");
+        }
+    }
+
+    /**
+     * Get H2's plan for a statement. Parameters are bound to NULL; the plan does not depend on them.
+     * 
+     * @param sql the statement
+     * @return the plan
+     */
+    private String explain(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to explain: " + sql, e);
+        }
+    }
+}
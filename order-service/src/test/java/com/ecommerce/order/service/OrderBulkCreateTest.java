@@ -0,0 +1,107 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.dto.OrderDto;
+import com.ecommerce.order.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies per-order outcomes and the size limit of bulk order creation.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@SpringBootTest(properties = "order.bulk.max-size=5")
+@AutoConfigureMockMvc
+class OrderBulkCreateTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    @Test
+    void invalidItemsAreReportedPerOrderWithoutFailingTheBatch() {
+        OrderDto valid = order("BULK-1", item(1L, "Widget", 2, "4.50"));
+        OrderDto zeroQuantity = order("BULK-2", item(2L, "Gadget", 0, "3.00"));
+        OrderDto missingPrice = order("BULK-3", item(3L, "Gizmo", 1, null));
+
+        List<OrderService.BulkOrderResult> results = orderService.createOrders(List.of(valid, zeroQuantity, missingPrice));
+
+        assertThat(results).extracting(OrderService.BulkOrderResult::outcome).containsExactly(
+                OrderService.BulkOrderOutcome.CREATED,
+                OrderService.BulkOrderOutcome.INVALID,
+                OrderService.BulkOrderOutcome.INVALID);
+        assertThat(results.get(1).message()).contains("orderItems[0].quantity");
+        assertThat(results.get(2).message()).contains("orderItems[0].unitPrice");
+        assertThat(orderRepository.findByOrderNumber("BULK-1")).hasValueSatisfying(
+                order -> assertThat(order.getTotalAmount()).isEqualByComparingTo("9.00"));
+        assertThat(orderRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void batchOverTheConfiguredMaximumIsRejected() throws Exception {
+        List<OrderDto> orders = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            orders.add(order("BULK-MAX-" + i, item(1L, "Widget", 1, "1.00")));
+        }
+
+        mockMvc.perform(post("/api/v1/orders/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(orders)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Bulk Request Too Large"));
+        assertThat(orderRepository.count()).isZero();
+    }
+
+    private static OrderDto order(String orderNumber, OrderDto.OrderItemDto item) {
+        return OrderDto.builder()
+                .orderNumber(orderNumber)
+                .customerName("Bulk Customer")
+                .customerEmail("bulk@example.com")
+                .totalAmount(BigDecimal.ZERO)
+                .orderItems(List.of(item))
+                .build();
+    }
+
+    private static OrderDto.OrderItemDto item(Long productId, String productName, int quantity, String unitPrice) {
+        return OrderDto.OrderItemDto.builder()
+                .productId(productId)
+                .productName(productName)
+                .quantity(quantity)
+                .unitPrice(unitPrice != null ? new BigDecimal(unitPrice) : null)
+                .build();
+    }
+}
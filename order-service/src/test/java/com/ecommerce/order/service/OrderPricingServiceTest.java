@@ -0,0 +1,149 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.client.ProductCatalogClient;
+import com.ecommerce.order.client.StubProductService;
+import com.ecommerce.order.entity.Order;
+import com.ecommerce.order.entity.OrderItem;
+import com.ecommerce.order.exception.PricingUnavailableException;
+import com.ecommerce.order.exception.UnknownProductException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies batching, coalescing, caching and failure handling of order pricing against a stub product-service.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+class OrderPricingServiceTest {
+
+    private static final Map<Long, ProductCatalogClient.ProductPrice> CATALOG = Map.of(
+            1L, new ProductCatalogClient.ProductPrice(1L, "Widget", new BigDecimal("9.99")),
+            2L, new ProductCatalogClient.ProductPrice(2L, "Gadget", new BigDecimal("4.50")));
+
+    private StubProductService stub;
+    private OrderPricingService pricingService;
+
+    @AfterEach
+    void tearDown() {
+        if (pricingService != null) {
+            pricingService.shutdown();
+        }
+        stub.close();
+    }
+
+    @Test
+    void priceSetsNameAndPricesFromProductService() {
+        pricingService = pricingService(Duration.ZERO, Duration.ofSeconds(2), true);
+        Order order = order(item(1L, 2), item(2L, 1));
+
+        pricingService.price(order);
+
+        assertThat(order.getOrderItems()).extracting(OrderItem::getProductName).containsExactly("Widget", "Gadget");
+        assertThat(order.getOrderItems()).extracting(OrderItem::getTotalPrice)
+                .containsExactly(new BigDecimal("19.98"), new BigDecimal("4.50"));
+    }
+
+    @Test
+    void concurrentOrdersShareOneBatchedFetch() throws Exception {
+        // A wide batch window so every caller's first lookup lands in the same batch
+        pricingService = pricingService(Duration.ofMillis(50), Duration.ofSeconds(2), true, Duration.ofMillis(200));
+        int callers = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Order>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> {
+                    Order order = order(item(1L, 1), item(2L, 1));
+                    start.await();
+                    pricingService.price(order);
+                    return order;
+                }));
+            }
+            start.countDown();
+            for (Future<Order> result : results) {
+                assertThat(result.get().getOrderItems()).extracting(OrderItem::getUnitPrice)
+                        .containsExactly(new BigDecimal("9.99"), new BigDecimal("4.50"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(stub.requests()).hasSize(1);
+        assertThat(stub.requests().get(0)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void pricesAreServedFromCacheWithinTheTtl() {
+        pricingService = pricingService(Duration.ZERO, Duration.ofSeconds(2), true);
+
+        pricingService.price(order(item(1L, 1)));
+        pricingService.price(order(item(1L, 3)));
+
+        assertThat(stub.requests()).hasSize(1);
+    }
+
+    @Test
+    void unknownProductIsRejected() {
+        pricingService = pricingService(Duration.ZERO, Duration.ofSeconds(2), true);
+
+        assertThatThrownBy(() -> pricingService.price(order(item(1L, 1), item(99L, 1))))
+                .isInstanceOf(UnknownProductException.class)
+                .hasMessageContaining("99");
+    }
+
+    @Test
+    void slowProductServiceFailsWithPricingUnavailable() {
+        pricingService = pricingService(Duration.ofSeconds(2), Duration.ofMillis(100), true);
+
+        assertThatThrownBy(() -> pricingService.price(order(item(1L, 1))))
+                .isInstanceOf(PricingUnavailableException.class);
+    }
+
+    @Test
+    void disabledPricingKeepsClientPricesAndMakesNoCalls() {
+        pricingService = pricingService(Duration.ZERO, Duration.ofSeconds(2), false);
+        Order order = order(item(1L, 1));
+        order.getOrderItems().get(0).setUnitPrice(new BigDecimal("1.00"));
+
+        pricingService.price(order);
+
+        assertThat(order.getOrderItems().get(0).getUnitPrice()).isEqualByComparingTo("1.00");
+        assertThat(stub.requests()).isEmpty();
+    }
+
+    private OrderPricingService pricingService(Duration latency, Duration timeout, boolean enabled) {
+        return pricingService(latency, timeout, enabled, Duration.ofMillis(5));
+    }
+
+    private OrderPricingService pricingService(Duration latency, Duration timeout, boolean enabled, Duration batchWindow) {
+        stub = StubProductService.start(CATALOG, latency);
+        ProductCatalogClient client = new ProductCatalogClient(RestClient.builder(), stub.baseUrl(), timeout);
+        return new OrderPricingService(client, enabled, batchWindow, 200, timeout, Duration.ofSeconds(5), 1000);
+    }
+
+    private static Order order(OrderItem... items) {
+        Order order = Order.builder().orderItems(new ArrayList<>(List.of(items))).build();
+        order.getOrderItems().forEach(item -> item.setOrder(order));
+        return order;
+    }
+
+    private static OrderItem item(Long productId, int quantity) {
+        return OrderItem.builder().productId(productId).quantity(quantity).build();
+    }
+}
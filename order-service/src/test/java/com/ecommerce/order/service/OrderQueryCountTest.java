@@ -0,0 +1,157 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.dto.OrderDto;
+import com.ecommerce.order.entity.Order;
+import com.ecommerce.order.entity.OrderItem;
+import com.ecommerce.order.repository.OrderRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that order list and export paths load order items with a bounded number of statements,
+ * independent of the number of orders returned, and that the export returns its connection
+ * to the pool before writing each chunk.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderQueryCountTest {
+
+    private static final int ORDER_COUNT = 1200;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Order> orders = new ArrayList<>(ORDER_COUNT);
+            for (int i = 0; i < ORDER_COUNT; i++) {
+                orders.add(order(i));
+            }
+            orderRepository.saveAll(orders);
+        });
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+    }
+
+    @Test
+    void pageOfOrdersLoadsItemsWithOneExtraStatement() {
+        OrderService.OrderPage page = orderService.getAllOrders(null, OrderService.MAX_PAGE_SIZE);
+
+        assertThat(page.orders()).hasSize(OrderService.MAX_PAGE_SIZE);
+        assertThat(page.orders()).allSatisfy(order -> assertThat(order.getOrderItems()).hasSize(ITEMS_PER_ORDER));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void filteredPageOfOrdersLoadsItemsWithOneExtraStatement() {
+        OrderService.OrderPage page = orderService.getOrdersByStatus(Order.OrderStatus.PENDING, null, 100);
+
+        assertThat(page.orders()).hasSize(100);
+        assertThat(page.orders()).extracting(OrderDto::getOrderItems).allSatisfy(items -> assertThat(items).isNotEmpty());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void exportLoadsItemsWithOneStatementPerChunk() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = orderService.exportOrders(out);
+
+        assertThat(exported).isEqualTo(ORDER_COUNT);
+        assertThat(out.toString(StandardCharsets.UTF_8).lines()).hasSize(ORDER_COUNT);
+        // One keyset ID query and one fetch-join query for each chunk of 500 orders
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3 * 2);
+    }
+
+    @Test
+    void exportHoldsNoConnectionWhileWriting() {
+        List<Integer> activeConnections = new ArrayList<>();
+        OutputStream out = new OutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                activeConnections.add(primaryDataSource.getHikariPoolMXBean().getActiveConnections());
+            }
+        };
+
+        orderService.exportOrders(out);
+
+        assertThat(activeConnections).isNotEmpty().containsOnly(0);
+    }
+
+    private static Order order(int index) {
+        Order order = Order.builder()
+                .orderNumber("QC-" + index)
+                .customerName("Customer " + index)
+                .customerEmail("customer" + index + "@example.com")
+                .status(Order.OrderStatus.PENDING)
+                .build();
+        List<OrderItem> items = new ArrayList<>(ITEMS_PER_ORDER);
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            BigDecimal unitPrice = BigDecimal.valueOf(500 + i, 2);
+            items.add(OrderItem.builder()
+                    .productId(1000L + i)
+                    .productName("Product " + i)
+                    .quantity(1)
+                    .unitPrice(unitPrice)
+                    .totalPrice(unitPrice)
+                    .order(order)
+                    .build());
+            total = total.add(unitPrice);
+        }
+        order.setOrderItems(items);
+        order.setTotalAmount(total);
+        return order;
+    }
+}
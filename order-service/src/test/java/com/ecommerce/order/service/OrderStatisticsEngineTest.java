@@ -0,0 +1,107 @@
+package com.ecommerce.order.service;
+
+import com.ecommerce.order.dto.OrderDto;
+import com.ecommerce.order.entity.Order;
+import com.ecommerce.order.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that rebuilding and reconciling the in-memory order statistics while orders
+ * are being written neither loses nor double-counts any committed order.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+class OrderStatisticsEngineTest {
+
+    private static final int WRITERS = 8;
+    private static final int ORDERS_PER_WRITER = 100;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderStatisticsEngine statisticsEngine;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM order_items");
+        jdbcTemplate.update("DELETE FROM orders");
+        statisticsEngine.rebuild();
+    }
+
+    @Test
+    void countersMatchDatabaseWhenRebuiltDuringWrites() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS + 1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                int writerId = writer;
+                writers.add(executor.submit(() -> {
+                    for (int i = 0; i < ORDERS_PER_WRITER; i++) {
+                        OrderDto created = orderService.createOrder(order(writerId + "-" + i));
+                        if (i % 3 == 0) {
+                            orderService.updateOrderStatus(created.getId(), Order.OrderStatus.SHIPPED);
+                        }
+                    }
+                }));
+            }
+            Future<?> rebuilder = executor.submit(() -> {
+                while (writing.get()) {
+                    statisticsEngine.rebuild();
+                    statisticsEngine.reconcile();
+                }
+            });
+
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            writing.set(false);
+            rebuilder.get();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        OrderService.OrderStatistics statistics = statisticsEngine.snapshot();
+        Map<Order.OrderStatus, Long> expected = new EnumMap<>(Order.OrderStatus.class);
+        orderRepository.summarizeByStatus().forEach(summary -> expected.put(summary.getStatus(), summary.getOrderCount()));
+
+        assertThat(statistics.totalOrders()).isEqualTo((long) WRITERS * ORDERS_PER_WRITER);
+        assertThat(statistics.pendingOrders()).isEqualTo(expected.get(Order.OrderStatus.PENDING));
+        assertThat(statistics.shippedOrders()).isEqualTo(expected.get(Order.OrderStatus.SHIPPED));
+        assertThat(statistics.totalRevenue()).isEqualByComparingTo(BigDecimal.valueOf(WRITERS * ORDERS_PER_WRITER * 1250L, 2));
+    }
+
+    private static OrderDto order(String suffix) {
+        return OrderDto.builder()
+                .orderNumber("STAT-" + suffix)
+                .customerName("Customer " + suffix)
+                .customerEmail("customer" + suffix + "@example.com")
+                .totalAmount(new BigDecimal("12.50"))
+                .build();
+    }
+}
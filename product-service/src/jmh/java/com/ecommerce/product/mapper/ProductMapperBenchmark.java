@@ -0,0 +1,125 @@
+package com.ecommerce.product.mapper;
+
+import com.ecommerce.product.dto.ProductDto;
+import com.ecommerce.product.dto.ProductView;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.service.ProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and allocation of the product mapper, from entities and from list projections.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductMapperBenchmark {
+
+    private final ProductMapper productMapper = new ProductMapper();
+    private Product product;
+    private ProductView view;
+    private ProductDto productDto;
+    private List<Product> page;
+    private List<ProductView> viewPage;
+
+    /**
+     * Build a product and a page of {@value ProductService#MAX_SEARCH_RESULTS} products, as entities and projections.
+     */
+    @Setup
+    public void setUp() {
+        page = new ArrayList<>(ProductService.MAX_SEARCH_RESULTS);
+        viewPage = new ArrayList<>(ProductService.MAX_SEARCH_RESULTS);
+        for (long id = 1; id <= ProductService.MAX_SEARCH_RESULTS; id++) {
+            Product entity = Product.builder()
+                    .id(id)
+                    .name("Product " + id)
+                    .description("Description of benchmark product " + id)
+                    .price(BigDecimal.valueOf(1999 + id, 2))
+                    .quantity((int) (id % 50))
+                    .reservedQuantity(0)
+                    .soldQuantity(id * 3)
+                    .stockStripes(0)
+                    .category("Category " + id % 10)
+                    .sku("SKU-" + id)
+                    .createdAt(LocalDateTime.of(2024, 1, 1, 12, 0))
+                    .build();
+            page.add(entity);
+            viewPage.add(new ProductView(entity.getId(), entity.getName(), entity.getDescription(), entity.getPrice(),
+                    entity.getQuantity(), entity.getReservedQuantity(), entity.getStockStripes(),
+                    entity.getCategory(), entity.getSku()));
+        }
+        product = page.get(0);
+        view = viewPage.get(0);
+        productDto = productMapper.toDto(product);
+    }
+
+    /**
+     * Map one entity to a DTO.
+     * 
+     * @return the DTO
+     */
+    @Benchmark
+    public ProductDto toDto() {
+        return productMapper.toDto(product);
+    }
+
+    /**
+     * Map one list projection to a DTO.
+     * 
+     * @return the DTO
+     */
+    @Benchmark
+    public ProductDto viewToDto() {
+        return productMapper.toDto(view);
+    }
+
+    /**
+     * Map one DTO to an entity.
+     * 
+     * @return the entity
+     */
+    @Benchmark
+    public Product toEntity() {
+        return productMapper.toEntity(productDto);
+    }
+
+    /**
+     * Map a page of entities to DTOs.
+     * 
+     * @return the DTOs
+     */
+    @Benchmark
+    public List<ProductDto> toDtoList() {
+        return productMapper.toDtoList(page);
+    }
+
+    /**
+     * Map a page of list projections to DTOs.
+     * 
+     * @return the DTOs
+     */
+    @Benchmark
+    public List<ProductDto> toDtoListFromViews() {
+        return productMapper.toDtoListFromViews(viewPage);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.ProductServiceApplication;
+import com.ecommerce.product.dto.ProductDto;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.mapper.ProductMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost per listed row of loading the product list against the in-memory database:
+ * as managed entities mapped to DTOs, in a read-write transaction (snapshots kept for dirty
+ * checking) and in a read-only one, and as {@code ProductView} projections mapped to DTOs.
+ * Each invocation lists {@value #ROWS} products and counts as {@value #ROWS} operations, so
+ * with the profile's {@code -prof gc} the {@code gc.alloc.rate.norm} column is bytes per row.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductListingBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private ProductRepository productRepository;
+    private ProductMapper productMapper;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    /**
+     * Start the application without a web server and insert the products.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProductServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false", "--logging.level.com.ecommerce.product=WARN");
+        productRepository = context.getBean(ProductRepository.class);
+        productMapper = context.getBean(ProductMapper.class);
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<Product> products = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            products.add(Product.builder()
+                    .name("Product " + i)
+                    .description("Description of listed product " + i)
+                    .price(BigDecimal.valueOf(1999 + i, 2))
+                    .quantity(i % 50)
+                    .category("Category " + i % 10)
+                    .sku("LIST-" + i)
+                    .build());
+        }
+        readWrite.executeWithoutResult(status -> productRepository.saveAll(products));
+    }
+
+    /**
+     * Stop the application.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Managed entities in a read-write transaction, as the list endpoints loaded them before projections.
+     * 
+     * @return the DTOs
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<ProductDto> entities() {
+        return readWrite.execute(status -> productMapper.toDtoList(productRepository.findAll()));
+    }
+
+    /**
+     * Managed entities in a read-only transaction, where Hibernate keeps no dirty-checking snapshots.
+     * 
+     * @return the DTOs
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<ProductDto> readOnlyEntities() {
+        return readOnly.execute(status -> productMapper.toDtoList(productRepository.findAll()));
+    }
+
+    /**
+     * Constructor-expression projections in a read-only transaction, as the list endpoints load them now.
+     * 
+     * @return the DTOs
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public List<ProductDto> views() {
+        return readOnly.execute(status -> productMapper.toDtoListFromViews(productRepository.findAllProjectedBy()));
+    }
+}
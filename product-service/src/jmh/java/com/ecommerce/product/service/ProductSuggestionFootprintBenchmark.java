@@ -0,0 +1,111 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductIndexRow;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Heap retained by the suggestion trie, scaled to one million products. Each invocation builds
+ * a trie from synthetic rows through the rebuild path and reports, next to the build time,
+ * the {@code megabytesPerMillionProducts} counter: live heap after a full GC with the trie
+ * minus live heap before, divided by the product count. Names share brand and word prefixes
+ * the way a real catalog does, so the per-node top-k arrays are measured where they overlap.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class ProductSuggestionFootprintBenchmark {
+
+    private static final String[] BRANDS = {"Acme", "Northwind", "Contoso", "Globex", "Initech", "Umbrella",
+            "Stark", "Wayne", "Wonka", "Tyrell"};
+    private static final String[] ADJECTIVES = {"Walnut", "Oak", "Steel", "Compact", "Wireless", "Ergonomic",
+            "Portable", "Classic", "Modern", "Deluxe", "Smart", "Outdoor"};
+    private static final String[] NOUNS = {"Desk", "Chair", "Lamp", "Shelf", "Speaker", "Headphones", "Keyboard",
+            "Monitor", "Backpack", "Kettle", "Blender", "Tent", "Jacket", "Drill"};
+
+    @Param({"100000", "1000000"})
+    private int products;
+
+    private ProductSuggestionIndex index;
+
+    /**
+     * Drop the trie of the previous invocation, so the baseline does not include it.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        index = null;
+    }
+
+    /**
+     * Build the trie and record its retained heap.
+     * 
+     * @param footprint the counters reported with the result
+     * @return the index, kept reachable until the measurement is taken
+     */
+    @Benchmark
+    public ProductSuggestionIndex build(Footprint footprint) {
+        long before = usedHeapAfterGc();
+        // The repository is only used for products changed during a rebuild; there are none here
+        index = new ProductSuggestionIndex(null, 10, 20);
+        ProductIndexRebuilder.Rebuild rebuild = index.startRebuild();
+        for (long id = 1; id <= products; id++) {
+            rebuild.add(row(id));
+        }
+        rebuild.publish();
+        long after = usedHeapAfterGc();
+        Reference.reachabilityFence(index);
+
+        footprint.megabytesPerMillionProducts = (after - before) / (double) products;
+        return index;
+    }
+
+    private static ProductIndexRow row(long id) {
+        int i = (int) id;
+        String name = BRANDS[i % BRANDS.length] + " " + ADJECTIVES[i / BRANDS.length % ADJECTIVES.length] + " "
+                + NOUNS[i / (BRANDS.length * ADJECTIVES.length) % NOUNS.length] + " " + id;
+        return new ProductIndexRow(id, name, null, "Category " + i % 20, String.format("SKU-%08d", id),
+                BigDecimal.valueOf(1999, 2), 10, (long) (i % 1000));
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Secondary result of each invocation.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        /**
+         * Retained bytes per product, which equals megabytes per million products.
+         */
+        public double megabytesPerMillionProducts;
+    }
+}
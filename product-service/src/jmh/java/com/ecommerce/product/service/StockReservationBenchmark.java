@@ -0,0 +1,108 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.ProductServiceApplication;
+import com.ecommerce.product.dto.ProductDto;
+import com.ecommerce.product.dto.StockReservationDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contention benchmark for stock reservations: every thread reserves and releases one unit
+ * of the same hot SKU against the in-memory database, with the stock on the product row
+ * or split across stripes. At the end of each trial the product must be back at its
+ * initial stock, so lost updates fail the run.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class StockReservationBenchmark {
+
+    private static final int INITIAL_QUANTITY = 1_000_000;
+
+    /**
+     * Number of stock stripes of the hot product; 0 keeps its stock on the product row.
+     */
+    @Param({"0", "4", "16"})
+    public int stripes;
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private StockReservationDto reservation;
+    private Long productId;
+
+    /**
+     * Start the application without a web server and create the hot product.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(ProductServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false", "--logging.level.com.ecommerce.product=WARN");
+        productService = context.getBean(ProductService.class);
+
+        productId = productService.createProduct(ProductDto.builder()
+                .name("Hot product")
+                .price(new BigDecimal("9.99"))
+                .quantity(INITIAL_QUANTITY)
+                .build()).getId();
+        if (stripes > 0) {
+            productService.updateStockStripes(productId, stripes);
+        }
+        reservation = StockReservationDto.builder()
+                .lines(List.of(StockReservationDto.Line.builder().productId(productId).quantity(1).build()))
+                .build();
+    }
+
+    /**
+     * Check that no reservation was lost and stop the application.
+     * 
+     * @throws IllegalStateException if the product did not end up at its initial stock
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        try {
+            ProductDto product = productService.updateStockStripes(productId, 0);
+            if (product.getQuantity() != INITIAL_QUANTITY || product.getReservedQuantity() != 0) {
+                throw new IllegalStateException("Lost stock updates: quantity " + product.getQuantity()
+                        + ", reserved " + product.getReservedQuantity());
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * Reserve one unit of the hot product and release it again, in two transactions.
+     */
+    @Benchmark
+    public void reserveAndRelease() {
+        productService.reserveStock(reservation);
+        productService.releaseStock(reservation);
+    }
+}
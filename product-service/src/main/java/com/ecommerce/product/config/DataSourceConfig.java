@@ -0,0 +1,73 @@
+package com.ecommerce.product.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+/**
+ * Data source wiring for Product Service.
+ * The primary pool is built from {@code spring.datasource}; when {@code product.datasource.replica.jdbc-url}
+ * is set, read-only transactions are served from a second pool configured under {@code product.datasource.replica}.
+ * {@link DataSourceProperties} is registered here because the R2DBC connection factory makes Spring Boot's
+ * data source auto-configuration back off.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    /**
+     * Primary connection pool, configured exactly like Spring Boot's default Hikari data source.
+     * 
+     * @param properties the spring.datasource properties
+     * @return the primary pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Replica connection pool for read-only transactions.
+     * 
+     * @return the replica pool
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "product.datasource.replica", name = "jdbc-url")
+    @ConfigurationProperties("product.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    /**
+     * Data source used by JPA, Flyway and JDBC. Physical connections are fetched lazily,
+     * on the first statement, so transactions that never touch the database do not borrow one
+     * and read-only transactions can be routed to the replica.
+     * 
+     * @param primaryDataSource the primary pool
+     * @param replicaDataSource the replica pool, if configured
+     * @return the application data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") Optional<DataSource> replicaDataSource) {
+        DataSource target = replicaDataSource
+                .<DataSource>map(replica -> new ReadOnlyRoutingDataSource(primaryDataSource, replica))
+                .orElse(primaryDataSource);
+        return new LazyConnectionDataSourceProxy(target);
+    }
+}
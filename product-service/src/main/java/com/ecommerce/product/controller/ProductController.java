@@ -1,7 +1,10 @@
 package com.ecommerce.product.controller;
 
 import com.ecommerce.product.dto.ProductDto;
+import com.ecommerce.product.dto.StockReservationDto;
+import com.ecommerce.product.service.ProductImportService;
 import com.ecommerce.product.service.ProductService;
+import com.ecommerce.product.service.ProductSuggestionIndex;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +12,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -25,6 +29,7 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
 
     /**
      * Create a new product.
@@ -40,6 +45,34 @@ public class ProductController {
         return new ResponseEntity<>(createdProduct, HttpStatus.CREATED);
     }
 
+    /**
+     * Import a product catalog from CSV, upserting by SKU.
+     * 
+     * @param body the CSV request body with a header row
+     * @return the import summary
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ProductImportService.ImportSummary> importCsv(InputStream body) {
+        log.info("POST /api/v1/products/import - Importing CSV catalog");
+        
+        ProductImportService.ImportSummary summary = productImportService.importCsv(body);
+        return ResponseEntity.ok(summary);
+    }
+
+    /**
+     * Import a product catalog from newline-delimited JSON, upserting by SKU.
+     * 
+     * @param body the NDJSON request body
+     * @return the import summary
+     */
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<ProductImportService.ImportSummary> importNdjson(InputStream body) {
+        log.info("POST /api/v1/products/import - Importing NDJSON catalog");
+        
+        ProductImportService.ImportSummary summary = productImportService.importNdjson(body);
+        return ResponseEntity.ok(summary);
+    }
+
     /**
      * Get a product by ID.
      * 
@@ -68,6 +101,32 @@ public class ProductController {
         return ResponseEntity.ok(product);
     }
 
+    /**
+     * Get several products by ID in one call.
+     * 
+     * @param ids the product IDs
+     * @return one lookup result per requested ID, in request order
+     */
+    @PostMapping("/batch/ids")
+    public ResponseEntity<List<ProductService.ProductLookup<Long>>> getProductsByIds(@RequestBody List<Long> ids) {
+        log.info("POST /api/v1/products/batch/ids - Fetching {} products by ID", ids.size());
+        
+        return ResponseEntity.ok(productService.getProductsByIds(ids));
+    }
+
+    /**
+     * Get several products by SKU in one call.
+     * 
+     * @param skus the product SKUs
+     * @return one lookup result per requested SKU, in request order
+     */
+    @PostMapping("/batch/skus")
+    public ResponseEntity<List<ProductService.ProductLookup<String>>> getProductsBySkus(@RequestBody List<String> skus) {
+        log.info("POST /api/v1/products/batch/skus - Fetching {} products by SKU", skus.size());
+        
+        return ResponseEntity.ok(productService.getProductsBySkus(skus));
+    }
+
     /**
      * Get all products.
      * 
@@ -122,6 +181,93 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * Full-text search with prefix and fuzzy matching, best match first.
+     * 
+     * @param q the search text
+     * @param limit the maximum number of results
+     * @return matching products in relevance order
+     */
+    @GetMapping("/search/text")
+    public ResponseEntity<List<ProductDto>> searchProducts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        log.debug("GET /api/v1/products/search/text?q={}&limit={} - Full-text searching products", q, limit);
+        
+        List<ProductDto> products = productService.searchProducts(q, limit);
+        return ResponseEntity.ok(products);
+    }
+
+    /**
+     * Get typeahead suggestions for a name or SKU prefix, most popular first.
+     * 
+     * @param prefix the typed prefix
+     * @param limit the maximum number of suggestions
+     * @return the suggestions
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<ProductSuggestionIndex.Suggestion>> suggestProducts(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        log.debug("GET /api/v1/products/suggest?prefix={}&limit={} - Suggesting products", prefix, limit);
+        
+        return ResponseEntity.ok(productService.suggestProducts(prefix, limit));
+    }
+
+    /**
+     * Browse products with combined filters and get facet counts in one call.
+     * 
+     * @param category categories to include, repeatable
+     * @param priceBucket price bucket labels to include, repeatable
+     * @param inStock true for in-stock only, false for out-of-stock only
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return the page of products and the facet counts
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ProductService.FacetedProducts> browseProducts(
+            @RequestParam(required = false) List<String> category,
+            @RequestParam(required = false) List<String> priceBucket,
+            @RequestParam(required = false) Boolean inStock,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("GET /api/v1/products/facets - Browsing products with facets");
+        
+        return ResponseEntity.ok(productService.browseProducts(
+                category != null ? category : List.of(),
+                priceBucket != null ? priceBucket : List.of(),
+                inStock, page, size));
+    }
+
+    /**
+     * Filter products by any combination of category, price range, stock, name fragment and sort.
+     * 
+     * @param category the category
+     * @param minPrice the minimum price
+     * @param maxPrice the maximum price
+     * @param inStock true for in-stock only, false for out-of-stock only
+     * @param name the name fragment
+     * @param sort the sort, as property[,asc|desc]
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return the requested page of matching products
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<ProductService.ProductPage> filterProducts(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Boolean inStock,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        log.debug("GET /api/v1/products/filter - Filtering products");
+        
+        return ResponseEntity.ok(productService.filterProducts(new ProductService.ProductFilter(
+                category, minPrice, maxPrice, inStock, name, sort, page, size)));
+    }
+
     /**
      * Get products within a price range.
      * 
@@ -174,6 +320,65 @@ public class ProductController {
         return ResponseEntity.ok(updatedProduct);
     }
 
+    /**
+     * Split a hot product's stock across stripes, or fold it back with a count of 0.
+     * 
+     * @param id the product ID
+     * @param count the number of stripes
+     * @return the updated product
+     */
+    @PutMapping("/{id}/stock/stripes")
+    public ResponseEntity<ProductDto> updateStockStripes(
+            @PathVariable Long id,
+            @RequestParam int count) {
+        log.info("PUT /api/v1/products/{}/stock/stripes?count={} - Updating stock stripes", id, count);
+        
+        ProductDto updatedProduct = productService.updateStockStripes(id, count);
+        return ResponseEntity.ok(updatedProduct);
+    }
+
+    /**
+     * Reserve stock for a multi-line checkout, all or nothing.
+     * 
+     * @param reservation the reservation lines
+     * @return no content
+     */
+    @PostMapping("/stock/reserve")
+    public ResponseEntity<Void> reserveStock(@Valid @RequestBody StockReservationDto reservation) {
+        log.info("POST /api/v1/products/stock/reserve - Reserving stock for {} lines", reservation.getLines().size());
+        
+        productService.reserveStock(reservation);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Release reserved stock back to available stock, all or nothing.
+     * 
+     * @param reservation the reservation lines
+     * @return no content
+     */
+    @PostMapping("/stock/release")
+    public ResponseEntity<Void> releaseStock(@Valid @RequestBody StockReservationDto reservation) {
+        log.info("POST /api/v1/products/stock/release - Releasing stock for {} lines", reservation.getLines().size());
+        
+        productService.releaseStock(reservation);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Commit reserved stock as sold, all or nothing.
+     * 
+     * @param reservation the reservation lines
+     * @return no content
+     */
+    @PostMapping("/stock/commit")
+    public ResponseEntity<Void> commitStock(@Valid @RequestBody StockReservationDto reservation) {
+        log.info("POST /api/v1/products/stock/commit - Committing stock for {} lines", reservation.getLines().size());
+        
+        productService.commitStock(reservation);
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * Delete a product by ID.
      * 
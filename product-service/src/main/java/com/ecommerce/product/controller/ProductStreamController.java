@@ -0,0 +1,99 @@
+package com.ecommerce.product.controller;
+
+import com.ecommerce.product.dto.ProductDto;
+import com.ecommerce.product.service.ProductStreamService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+
+/**
+ * REST controller for streaming catalog reads as newline-delimited JSON.
+ * Each product is written as soon as it is read, and reading pauses while the client is slow.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Slf4j
+@RestController
+@RequestMapping(value = "/api/v1/products/stream", produces = ProductStreamController.NDJSON_MEDIA_TYPE)
+@RequiredArgsConstructor
+public class ProductStreamController {
+
+    static final String NDJSON_MEDIA_TYPE = "application/x-ndjson";
+
+    private final ProductStreamService productStreamService;
+
+    /**
+     * Stream all products.
+     * 
+     * @return flux of all products
+     */
+    @GetMapping
+    public Flux<ProductDto> streamAllProducts() {
+        log.debug("GET /api/v1/products/stream - Streaming all products");
+        
+        return productStreamService.streamAllProducts();
+    }
+
+    /**
+     * Stream products by category.
+     * 
+     * @param category the category to filter by
+     * @return flux of products in the category
+     */
+    @GetMapping("/category/{category}")
+    public Flux<ProductDto> streamProductsByCategory(@PathVariable String category) {
+        log.debug("GET /api/v1/products/stream/category/{} - Streaming products by category", category);
+        
+        return productStreamService.streamProductsByCategory(category);
+    }
+
+    /**
+     * Stream in-stock products.
+     * 
+     * @return flux of products with quantity > 0
+     */
+    @GetMapping("/in-stock")
+    public Flux<ProductDto> streamInStockProducts() {
+        log.debug("GET /api/v1/products/stream/in-stock - Streaming in-stock products");
+        
+        return productStreamService.streamInStockProducts();
+    }
+
+    /**
+     * Stream products whose name contains the given fragment.
+     * 
+     * @param name the name fragment to search for
+     * @return flux of matching products
+     */
+    @GetMapping("/search")
+    public Flux<ProductDto> streamProductsByName(@RequestParam String name) {
+        log.debug("GET /api/v1/products/stream/search?name={} - Streaming products by name", name);
+        
+        return productStreamService.streamProductsByName(name);
+    }
+
+    /**
+     * Stream products within a price range.
+     * 
+     * @param minPrice the minimum price
+     * @param maxPrice the maximum price
+     * @return flux of products within the price range
+     */
+    @GetMapping("/price-range")
+    public Flux<ProductDto> streamProductsByPriceRange(
+            @RequestParam BigDecimal minPrice,
+            @RequestParam BigDecimal maxPrice) {
+        log.debug("GET /api/v1/products/stream/price-range?minPrice={}&maxPrice={} - Streaming products by price range",
+                minPrice, maxPrice);
+        
+        return productStreamService.streamProductsByPriceRange(minPrice, maxPrice);
+    }
+}
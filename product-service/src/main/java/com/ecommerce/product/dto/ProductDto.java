@@ -39,6 +39,10 @@ public class ProductDto {
     @NotNull(message = "Product quantity is required")
     private Integer quantity;
 
+    private Integer reservedQuantity;
+
+    private Integer stockStripes;
+
     private String category;
 
     private String sku;
@@ -0,0 +1,14 @@
+package com.ecommerce.product.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable projection of the product columns the in-memory indexes are built from.
+ * Read in ID order by the shared startup scan, without loading managed entities.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+public record ProductIndexRow(Long id, String name, String description, String category, String sku,
+                              BigDecimal price, Integer quantity, Long soldQuantity) {
+}
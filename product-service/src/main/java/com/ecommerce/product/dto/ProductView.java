@@ -0,0 +1,14 @@
+package com.ecommerce.product.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Immutable projection of a product row for list queries.
+ * Built directly by a constructor expression, so no managed entity or dirty-checking snapshot is created.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+public record ProductView(Long id, String name, String description, BigDecimal price, Integer quantity,
+                          Integer reservedQuantity, Integer stockStripes, String category, String sku) {
+}
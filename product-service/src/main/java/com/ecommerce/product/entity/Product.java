@@ -28,7 +28,8 @@ import java.time.LocalDateTime;
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "products_seq")
+    @SequenceGenerator(name = "products_seq", sequenceName = "products_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Product name is required")
@@ -49,6 +50,18 @@ public class Product {
     @Column(name = "quantity", nullable = false)
     private Integer quantity;
 
+    @Column(name = "reserved_quantity", nullable = false)
+    @Builder.Default
+    private Integer reservedQuantity = 0;
+
+    @Column(name = "sold_quantity", nullable = false)
+    @Builder.Default
+    private Long soldQuantity = 0L;
+
+    @Column(name = "stock_stripes", nullable = false)
+    @Builder.Default
+    private Integer stockStripes = 0;
+
     @Column(name = "category")
     private String category;
 
@@ -0,0 +1,53 @@
+package com.ecommerce.product.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+
+/**
+ * Read-only R2DBC mapping of the products table, used by the reactive catalog read path.
+ * Writes always go through the JPA {@link Product} entity.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Table("products")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductReadModel {
+
+    @Id
+    private Long id;
+
+    @Column("name")
+    private String name;
+
+    @Column("description")
+    private String description;
+
+    @Column("price")
+    private BigDecimal price;
+
+    @Column("quantity")
+    private Integer quantity;
+
+    @Column("reserved_quantity")
+    private Integer reservedQuantity;
+
+    @Column("stock_stripes")
+    private Integer stockStripes;
+
+    @Column("category")
+    private String category;
+
+    @Column("sku")
+    private String sku;
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.product.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity representing one stripe of a hot product's stock.
+ * A striped product's stock is split across several stripe rows so that
+ * concurrent reservations lock different rows instead of the product row.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "product_stock_stripes",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "stripe_index"}))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductStockStripe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_stock_stripes_seq")
+    @SequenceGenerator(name = "product_stock_stripes_seq", sequenceName = "product_stock_stripes_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(name = "stripe_index", nullable = false)
+    private Integer stripeIndex;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @Column(name = "reserved_quantity", nullable = false)
+    private Integer reservedQuantity;
+
+    @Column(name = "sold_quantity", nullable = false)
+    private Long soldQuantity;
+}
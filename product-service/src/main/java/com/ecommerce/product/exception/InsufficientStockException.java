@@ -0,0 +1,29 @@
+package com.ecommerce.product.exception;
+
+/**
+ * Exception thrown when a product does not have enough stock for a reservation.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+public class InsufficientStockException extends RuntimeException {
+
+    /**
+     * Constructs a new InsufficientStockException with the specified detail message.
+     * 
+     * @param message the detail message
+     */
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new InsufficientStockException with the specified detail message and cause.
+     * 
+     * @param message the detail message
+     * @param cause the cause of the exception
+     */
+    public InsufficientStockException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,29 @@
+package com.ecommerce.product.exception;
+
+/**
+ * Exception thrown when a catalog import cannot be processed.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+public class InvalidImportException extends RuntimeException {
+
+    /**
+     * Constructs a new InvalidImportException with the specified detail message.
+     * 
+     * @param message the detail message
+     */
+    public InvalidImportException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new InvalidImportException with the specified detail message and cause.
+     * 
+     * @param message the detail message
+     * @param cause the cause of the exception
+     */
+    public InvalidImportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,7 +1,9 @@
 package com.ecommerce.product.mapper;
 
 import com.ecommerce.product.dto.ProductDto;
+import com.ecommerce.product.dto.ProductView;
 import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.entity.ProductReadModel;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -33,6 +35,68 @@ public class ProductMapper {
                 .description(product.getDescription())
                 .price(product.getPrice())
                 .quantity(product.getQuantity())
+                .reservedQuantity(product.getReservedQuantity())
+                .stockStripes(product.getStockStripes())
+                .category(product.getCategory())
+                .sku(product.getSku())
+                .build();
+    }
+
+    /**
+     * Convert a list projection to ProductDto.
+     * 
+     * @param product the product projection
+     * @return the product DTO
+     */
+    public ProductDto toDto(ProductView product) {
+        if (product == null) {
+            return null;
+        }
+
+        return ProductDto.builder()
+                .id(product.id())
+                .name(product.name())
+                .description(product.description())
+                .price(product.price())
+                .quantity(product.quantity())
+                .reservedQuantity(product.reservedQuantity())
+                .stockStripes(product.stockStripes())
+                .category(product.category())
+                .sku(product.sku())
+                .build();
+    }
+
+    /**
+     * Convert a list of projections to ProductDto list.
+     * 
+     * @param products the product projections
+     * @return list of product DTOs
+     */
+    public List<ProductDto> toDtoListFromViews(List<ProductView> products) {
+        return products.stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Convert the reactive read model to ProductDto.
+     * 
+     * @param product the product read model
+     * @return the product DTO
+     */
+    public ProductDto toDto(ProductReadModel product) {
+        if (product == null) {
+            return null;
+        }
+
+        return ProductDto.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .quantity(product.getQuantity())
+                .reservedQuantity(product.getReservedQuantity())
+                .stockStripes(product.getStockStripes())
                 .category(product.getCategory())
                 .sku(product.getSku())
                 .build();
@@ -0,0 +1,58 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.entity.ProductReadModel;
+import org.springframework.data.repository.Repository;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+
+/**
+ * Non-blocking, read-only R2DBC repository for catalog reads.
+ * Results are emitted as rows arrive, in ID order.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@org.springframework.stereotype.Repository
+public interface ProductReactiveRepository extends Repository<ProductReadModel, Long> {
+
+    /**
+     * Stream all products.
+     * 
+     * @return flux of all products
+     */
+    Flux<ProductReadModel> findAllByOrderByIdAsc();
+
+    /**
+     * Stream products by category.
+     * 
+     * @param category the category to filter by
+     * @return flux of products in the category
+     */
+    Flux<ProductReadModel> findByCategoryOrderByIdAsc(String category);
+
+    /**
+     * Stream products whose name contains the given string (case-insensitive).
+     * 
+     * @param name the name fragment to search for
+     * @return flux of matching products
+     */
+    Flux<ProductReadModel> findByNameContainingIgnoreCaseOrderByIdAsc(String name);
+
+    /**
+     * Stream products with quantity greater than the given value.
+     * 
+     * @param quantity the exclusive lower bound
+     * @return flux of matching products
+     */
+    Flux<ProductReadModel> findByQuantityGreaterThanOrderByIdAsc(Integer quantity);
+
+    /**
+     * Stream products within a price range.
+     * 
+     * @param minPrice the minimum price
+     * @param maxPrice the maximum price
+     * @return flux of products within the price range
+     */
+    Flux<ProductReadModel> findByPriceBetweenOrderByIdAsc(BigDecimal minPrice, BigDecimal maxPrice);
+}
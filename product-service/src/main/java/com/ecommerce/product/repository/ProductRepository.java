@@ -1,11 +1,19 @@
 package com.ecommerce.product.repository;
 
+import com.ecommerce.product.dto.ProductIndexRow;
+import com.ecommerce.product.dto.ProductView;
 import com.ecommerce.product.entity.Product;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,7 +24,26 @@ import java.util.Optional;
  * @version 1.0.0
  */
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
+
+    /**
+     * Select clause projecting product rows into {@link ProductView} for list queries with explicit JPQL.
+     */
+    String PRODUCT_VIEW = "SELECT new com.ecommerce.product.dto.ProductView(p.id, p.name, p.description, p.price, "
+            + "p.quantity, p.reservedQuantity, p.stockStripes, p.category, p.sku) FROM Product p ";
+
+    /**
+     * Select clause projecting product rows into {@link ProductIndexRow} for rebuilding the in-memory indexes.
+     */
+    String PRODUCT_INDEX_ROW = "SELECT new com.ecommerce.product.dto.ProductIndexRow(p.id, p.name, p.description, "
+            + "p.category, p.sku, p.price, p.quantity, p.soldQuantity) FROM Product p ";
+
+    /**
+     * Find all products as list projections.
+     * 
+     * @return all products
+     */
+    List<ProductView> findAllProjectedBy();
 
     /**
      * Find a product by its SKU.
@@ -26,13 +53,32 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     Optional<Product> findBySku(String sku);
 
+    /**
+     * Find the index columns of the next page of products after the given ID, in ID order.
+     * 
+     * @param id the last ID already read
+     * @param pageable the page size
+     * @return the next index rows
+     */
+    @Query(PRODUCT_INDEX_ROW + "WHERE p.id > :id ORDER BY p.id")
+    List<ProductIndexRow> findIndexRowsAfter(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * Find the index columns of the given products.
+     * 
+     * @param ids the product IDs
+     * @return the index rows of the products that exist
+     */
+    @Query(PRODUCT_INDEX_ROW + "WHERE p.id IN :ids")
+    List<ProductIndexRow> findIndexRowsByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * Find products by category.
      * 
      * @param category the category to filter by
      * @return list of products in the specified category
      */
-    List<Product> findByCategory(String category);
+    List<ProductView> findByCategory(String category);
 
     /**
      * Find products by name containing the given string (case-insensitive).
@@ -40,15 +86,23 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @param name the name fragment to search for
      * @return list of products matching the name criteria
      */
-    List<Product> findByNameContainingIgnoreCase(String name);
+    List<ProductView> findByNameContainingIgnoreCase(String name);
 
     /**
      * Find products with quantity greater than zero (in stock).
      * 
      * @return list of products that are in stock
      */
-    @Query("SELECT p FROM Product p WHERE p.quantity > 0")
-    List<Product> findInStockProducts();
+    @Query(PRODUCT_VIEW + "WHERE p.quantity > 0")
+    List<ProductView> findInStockProducts();
+
+    /**
+     * Find the IDs of products with quantity greater than zero.
+     * 
+     * @return IDs of products that are in stock
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.quantity > 0")
+    List<Long> findInStockProductIds();
 
     /**
      * Find products within a price range.
@@ -57,8 +111,8 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @param maxPrice the maximum price
      * @return list of products within the price range
      */
-    @Query("SELECT p FROM Product p WHERE p.price BETWEEN :minPrice AND :maxPrice")
-    List<Product> findByPriceBetween(@Param("minPrice") java.math.BigDecimal minPrice, 
+    @Query(PRODUCT_VIEW + "WHERE p.price BETWEEN :minPrice AND :maxPrice")
+    List<ProductView> findByPriceBetween(@Param("minPrice") java.math.BigDecimal minPrice, 
                                    @Param("maxPrice") java.math.BigDecimal maxPrice);
 
     /**
@@ -68,4 +122,104 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      * @return true if a product with the SKU exists, false otherwise
      */
     boolean existsBySku(String sku);
+
+    /**
+     * Find all products whose SKU is in the given set.
+     * 
+     * @param skus the SKUs to look up
+     * @return the products with a matching SKU
+     */
+    List<Product> findBySkuIn(Collection<String> skus);
+
+    /**
+     * Find all products whose SKU is in the given set and lock their rows until the transaction ends.
+     * Rows are locked in ID order, so concurrent imports of overlapping chunks do not deadlock.
+     * 
+     * @param skus the SKUs to look up
+     * @return the locked products with a matching SKU
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.sku IN :skus ORDER BY p.id")
+    List<Product> findBySkuInForUpdate(@Param("skus") Collection<String> skus);
+
+    /**
+     * Atomically move stock from available to reserved if enough is available. Striped products
+     * keep their stock on the stripes and are never updated here.
+     * 
+     * @param id the product ID
+     * @param amount the quantity to reserve
+     * @return 1 if the reservation succeeded, 0 if the product is missing, striped or has too little stock
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = p.quantity - :amount, "
+            + "p.reservedQuantity = p.reservedQuantity + :amount, p.updatedAt = LOCAL DATETIME "
+            + "WHERE p.id = :id AND p.stockStripes = 0 AND p.quantity >= :amount")
+    int reserveStock(@Param("id") Long id, @Param("amount") int amount);
+
+    /**
+     * Atomically return reserved stock to available stock.
+     * 
+     * @param id the product ID
+     * @param amount the quantity to release
+     * @return 1 if the release succeeded, 0 if the product is missing, striped or has too little reserved
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = p.quantity + :amount, "
+            + "p.reservedQuantity = p.reservedQuantity - :amount, p.updatedAt = LOCAL DATETIME "
+            + "WHERE p.id = :id AND p.stockStripes = 0 AND p.reservedQuantity >= :amount")
+    int releaseStock(@Param("id") Long id, @Param("amount") int amount);
+
+    /**
+     * Atomically consume reserved stock once the sale is final and count it as sold.
+     * 
+     * @param id the product ID
+     * @param amount the quantity to commit
+     * @return 1 if the commit succeeded, 0 if the product is missing, striped or has too little reserved
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.reservedQuantity = p.reservedQuantity - :amount, "
+            + "p.soldQuantity = p.soldQuantity + CAST(:amount AS long), p.updatedAt = LOCAL DATETIME "
+            + "WHERE p.id = :id AND p.stockStripes = 0 AND p.reservedQuantity >= :amount")
+    int commitStock(@Param("id") Long id, @Param("amount") int amount);
+
+    /**
+     * Find a product by ID and lock its row until the transaction ends.
+     * 
+     * @param id the product ID
+     * @return Optional containing the locked product if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id = :id")
+    Optional<Product> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Get the number of stock stripes of a product without loading it.
+     * 
+     * @param id the product ID
+     * @return Optional containing the stripe count if the product exists
+     */
+    @Query("SELECT p.stockStripes FROM Product p WHERE p.id = :id")
+    Optional<Integer> findStockStripesById(@Param("id") Long id);
+
+    /**
+     * Get the available quantity on a product row without loading it.
+     * 
+     * @param id the product ID
+     * @return Optional containing the available quantity if the product exists
+     */
+    @Query("SELECT p.quantity FROM Product p WHERE p.id = :id")
+    Optional<Integer> findQuantityById(@Param("id") Long id);
+
+    /**
+     * Copy the stripe totals of every striped product onto its quantity columns.
+     * 
+     * @return the number of products updated
+     */
+    @Modifying
+    @Query("UPDATE Product p SET "
+            + "p.quantity = (SELECT COALESCE(SUM(s.quantity), 0) FROM ProductStockStripe s WHERE s.productId = p.id), "
+            + "p.reservedQuantity = (SELECT COALESCE(SUM(s.reservedQuantity), 0) FROM ProductStockStripe s WHERE s.productId = p.id), "
+            + "p.soldQuantity = (SELECT COALESCE(SUM(s.soldQuantity), 0) FROM ProductStockStripe s WHERE s.productId = p.id) "
+            + "WHERE p.stockStripes > 0")
+    int syncStripedStockTotals();
 }
@@ -0,0 +1,95 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.entity.Product;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+
+/**
+ * Composable query predicates for the product filter endpoint.
+ * Each predicate is null when its parameter is absent, so combining them with
+ * {@link Specification#where} yields a single query containing only the requested filters.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+public final class ProductSpecifications {
+
+    private ProductSpecifications() {
+    }
+
+    /**
+     * Match products in a category; uses the category/price index.
+     * 
+     * @param category the category, or null for any
+     * @return the predicate, or null
+     */
+    public static Specification<Product> hasCategory(String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        return (root, query, builder) -> builder.equal(root.get("category"), category);
+    }
+
+    /**
+     * Match products priced at or above a minimum; uses the price index.
+     * 
+     * @param minPrice the minimum price, or null for no lower bound
+     * @return the predicate, or null
+     */
+    public static Specification<Product> priceAtLeast(BigDecimal minPrice) {
+        if (minPrice == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.greaterThanOrEqualTo(root.get("price"), minPrice);
+    }
+
+    /**
+     * Match products priced at or below a maximum; uses the price index.
+     * 
+     * @param maxPrice the maximum price, or null for no upper bound
+     * @return the predicate, or null
+     */
+    public static Specification<Product> priceAtMost(BigDecimal maxPrice) {
+        if (maxPrice == null) {
+            return null;
+        }
+        return (root, query, builder) -> builder.lessThanOrEqualTo(root.get("price"), maxPrice);
+    }
+
+    /**
+     * Match products by stock availability; uses the quantity index.
+     * 
+     * @param inStock true for quantity > 0, false for quantity = 0, null for any
+     * @return the predicate, or null
+     */
+    public static Specification<Product> inStock(Boolean inStock) {
+        if (inStock == null) {
+            return null;
+        }
+        return (root, query, builder) -> inStock
+                ? builder.greaterThan(root.get("quantity"), 0)
+                : builder.lessThanOrEqualTo(root.get("quantity"), 0);
+    }
+
+    /**
+     * Match products whose name contains a fragment, case-insensitively.
+     * A leading wildcard cannot use an index, so this predicate is applied to the rows
+     * the indexed predicates have already narrowed down.
+     * 
+     * @param name the name fragment, or null for any
+     * @return the predicate, or null
+     */
+    public static Specification<Product> nameContains(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(name.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, builder) -> builder.like(builder.lower(root.get("name")), pattern, '\\');
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
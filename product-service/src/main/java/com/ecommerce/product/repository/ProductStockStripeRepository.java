@@ -0,0 +1,131 @@
+package com.ecommerce.product.repository;
+
+import com.ecommerce.product.entity.ProductStockStripe;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for ProductStockStripe entity operations.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ProductStockStripeRepository extends JpaRepository<ProductStockStripe, Long> {
+
+    /**
+     * Find all stripes of a product.
+     * 
+     * @param productId the product ID
+     * @return the stripes ordered by stripe index
+     */
+    List<ProductStockStripe> findByProductIdOrderByStripeIndex(Long productId);
+
+    /**
+     * Find all stripes of a product and lock them until the transaction ends. Waits for
+     * in-flight stripe updates to commit, and blocks new ones until the lock is released.
+     * 
+     * @param productId the product ID
+     * @return the locked stripes ordered by stripe index
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockStripe s WHERE s.productId = :productId ORDER BY s.stripeIndex")
+    List<ProductStockStripe> findByProductIdForUpdate(@Param("productId") Long productId);
+
+    /**
+     * Sum the available and reserved stock across all stripes of a product.
+     * 
+     * @param productId the product ID
+     * @return the totals, empty if the product has no stripes
+     */
+    @Query("SELECT s.productId AS productId, SUM(s.quantity) AS quantity, SUM(s.reservedQuantity) AS reservedQuantity, "
+            + "SUM(s.soldQuantity) AS soldQuantity FROM ProductStockStripe s WHERE s.productId = :productId GROUP BY s.productId")
+    Optional<StripeTotals> sumByProductId(@Param("productId") Long productId);
+
+    /**
+     * Sum the available and reserved stock of several striped products with one grouped query.
+     * 
+     * @param productIds the product IDs
+     * @return the totals of every product that has stripes
+     */
+    @Query("SELECT s.productId AS productId, SUM(s.quantity) AS quantity, SUM(s.reservedQuantity) AS reservedQuantity, "
+            + "SUM(s.soldQuantity) AS soldQuantity FROM ProductStockStripe s WHERE s.productId IN :productIds GROUP BY s.productId")
+    List<StripeTotals> sumByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * Atomically reserve stock from one stripe if it has enough available.
+     * 
+     * @param productId the product ID
+     * @param stripeIndex the stripe index
+     * @param amount the quantity to reserve
+     * @return 1 if the reservation succeeded, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE ProductStockStripe s SET s.quantity = s.quantity - :amount, "
+            + "s.reservedQuantity = s.reservedQuantity + :amount "
+            + "WHERE s.productId = :productId AND s.stripeIndex = :stripeIndex AND s.quantity >= :amount")
+    int reserveStock(@Param("productId") Long productId, @Param("stripeIndex") int stripeIndex,
+                     @Param("amount") int amount);
+
+    /**
+     * Atomically return reserved stock to available stock on one stripe.
+     * 
+     * @param productId the product ID
+     * @param stripeIndex the stripe index
+     * @param amount the quantity to release
+     * @return 1 if the release succeeded, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE ProductStockStripe s SET s.quantity = s.quantity + :amount, "
+            + "s.reservedQuantity = s.reservedQuantity - :amount "
+            + "WHERE s.productId = :productId AND s.stripeIndex = :stripeIndex AND s.reservedQuantity >= :amount")
+    int releaseStock(@Param("productId") Long productId, @Param("stripeIndex") int stripeIndex,
+                     @Param("amount") int amount);
+
+    /**
+     * Atomically consume reserved stock on one stripe and count it as sold.
+     * 
+     * @param productId the product ID
+     * @param stripeIndex the stripe index
+     * @param amount the quantity to commit
+     * @return 1 if the commit succeeded, 0 otherwise
+     */
+    @Modifying
+    @Query("UPDATE ProductStockStripe s SET s.reservedQuantity = s.reservedQuantity - :amount, "
+            + "s.soldQuantity = s.soldQuantity + CAST(:amount AS long) WHERE s.productId = :productId AND s.stripeIndex = :stripeIndex AND s.reservedQuantity >= :amount")
+    int commitStock(@Param("productId") Long productId, @Param("stripeIndex") int stripeIndex,
+                    @Param("amount") int amount);
+
+    /**
+     * Delete all stripes of a product.
+     * 
+     * @param productId the product ID
+     * @return the number of deleted stripes
+     */
+    @Modifying
+    @Query("DELETE FROM ProductStockStripe s WHERE s.productId = :productId")
+    int deleteByProductId(@Param("productId") Long productId);
+
+    /**
+     * Projection of the stock totals of a striped product.
+     */
+    interface StripeTotals {
+
+        Long getProductId();
+
+        long getQuantity();
+
+        long getReservedQuantity();
+
+        long getSoldQuantity();
+    }
+}
@@ -0,0 +1,135 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded, TTL-evicting read-through cache of products keyed by ID, with a SKU secondary index.
+ * Invalidations are applied after the writing transaction commits; a load that overlaps
+ * an invalidation is never left in the cache, so deleted or changed products are not served.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductCache {
+
+    private final Cache<Long, ProductDto> productsById;
+    private final Map<String, Long> idsBySku = new ConcurrentHashMap<>();
+    private final AtomicLong invalidationEpoch = new AtomicLong();
+
+    public ProductCache(@Value("${product.cache.maximum-size:10000}") long maximumSize,
+                        @Value("${product.cache.ttl:10m}") Duration ttl,
+                        MeterRegistry meterRegistry) {
+        Cache<Long, ProductDto> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .removalListener((Long id, ProductDto product, RemovalCause cause) -> {
+                    if (product != null && product.getSku() != null) {
+                        idsBySku.remove(product.getSku(), id);
+                    }
+                })
+                .build();
+        // Size, hits, misses and evictions are published as cache.* metrics tagged cache=products
+        this.productsById = CaffeineCacheMetrics.monitor(meterRegistry, cache, "products");
+    }
+
+    /**
+     * Get a product by ID, loading and caching it on a miss.
+     * 
+     * @param id the product ID
+     * @param loader loads the product from the database; may throw if it does not exist
+     * @return the product
+     */
+    public ProductDto getById(Long id, Function<Long, ProductDto> loader) {
+        ProductDto cached = productsById.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        long epoch = invalidationEpoch.get();
+        ProductDto product = loader.apply(id);
+        put(product, epoch);
+        return product;
+    }
+
+    /**
+     * Get a product by SKU, loading and caching it on a miss.
+     * 
+     * @param sku the product SKU
+     * @param loader loads the product from the database; may throw if it does not exist
+     * @return the product
+     */
+    public ProductDto getBySku(String sku, Function<String, ProductDto> loader) {
+        Long id = idsBySku.get(sku);
+        if (id != null) {
+            ProductDto cached = productsById.getIfPresent(id);
+            if (cached != null && sku.equals(cached.getSku())) {
+                return cached;
+            }
+        }
+        long epoch = invalidationEpoch.get();
+        ProductDto product = loader.apply(sku);
+        put(product, epoch);
+        return product;
+    }
+
+    /**
+     * Evict a product once the current transaction commits, or immediately if there is none.
+     * 
+     * @param id the product ID
+     */
+    public void evictAfterCommit(Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(id);
+            }
+        });
+    }
+
+    /**
+     * Cache a loaded product unless an invalidation happened while it was being loaded.
+     * 
+     * @param product the loaded product
+     * @param epoch the invalidation epoch observed before loading
+     */
+    private void put(ProductDto product, long epoch) {
+        if (product == null || product.getId() == null || invalidationEpoch.get() != epoch) {
+            return;
+        }
+        productsById.put(product.getId(), product);
+        if (product.getSku() != null) {
+            idsBySku.put(product.getSku(), product.getId());
+        }
+        if (invalidationEpoch.get() != epoch) {
+            productsById.invalidate(product.getId());
+        }
+    }
+
+    private void evict(Long id) {
+        invalidationEpoch.incrementAndGet();
+        productsById.invalidate(id);
+        log.debug("Evicted product {} from cache", id);
+    }
+}
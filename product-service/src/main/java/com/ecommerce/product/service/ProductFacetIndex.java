@@ -0,0 +1,397 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductIndexRow;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory bitmap index of products by category, price bucket and stock flag.
+ * Filtering and facet counting are bitmap intersections, so counts never load products.
+ * Entity writes and stock reservations update the index after commit. A rare reconcile
+ * reloads the stock flag to correct drift, such as updates whose after-commit callbacks
+ * ran out of commit order.
+ * Rebuilds fill fresh bitmaps from the shared scan, replay the entity writes made meanwhile
+ * and swap them in. Product IDs are used directly as bitmap positions and must fit in an int.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductFacetIndex implements ProductIndexRebuilder.RebuildableIndex {
+
+    private static final String IN_STOCK = "inStock";
+    private static final String OUT_OF_STOCK = "outOfStock";
+
+    private final ProductRepository productRepository;
+    private final List<BigDecimal> priceBoundaries;
+    private final List<String> priceBucketLabels;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Bitmaps bitmaps;
+    private List<Consumer<Bitmaps>> changesDuringRebuild;
+
+    public ProductFacetIndex(ProductRepository productRepository,
+                             @Value("${product.facets.price-buckets:10,25,50,100,250,500}") List<BigDecimal> priceBoundaries) {
+        this.productRepository = productRepository;
+        this.priceBoundaries = priceBoundaries.stream().sorted().toList();
+        this.priceBucketLabels = bucketLabels(this.priceBoundaries);
+        this.bitmaps = new Bitmaps(priceBucketLabels.size());
+    }
+
+    /**
+     * Filter products and count facets. Each facet is counted with the filters of the
+     * other facets applied, so selecting one category still shows counts for the others.
+     * 
+     * @param categories categories to include, empty for all
+     * @param priceBuckets price bucket labels to include, empty for all
+     * @param inStockOnly true for in-stock only, false for out-of-stock only, null for both
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return the matching product IDs of the page, the total and the facet counts
+     */
+    public FacetCounts query(Collection<String> categories, Collection<String> priceBuckets, Boolean inStockOnly,
+                             int page, int size) {
+        lock.readLock().lock();
+        try {
+            Bitmaps index = bitmaps;
+            RoaringBitmap categoryFilter = categories.isEmpty() ? null
+                    : union(categories.stream().map(index.byCategory::get).toList());
+            RoaringBitmap priceFilter = priceBuckets.isEmpty() ? null
+                    : union(priceBuckets.stream().map(label -> index.byPriceBucket[bucketIndex(label)]).toList());
+            RoaringBitmap stockFilter = inStockOnly == null ? null
+                    : inStockOnly ? index.inStock : RoaringBitmap.andNot(index.all, index.inStock);
+
+            RoaringBitmap matching = index.intersect(categoryFilter, priceFilter, stockFilter);
+
+            RoaringBitmap categoryBase = index.intersect(null, priceFilter, stockFilter);
+            Map<String, Long> categoryCounts = new TreeMap<>();
+            index.byCategory.forEach((category, bitmap) -> {
+                long count = RoaringBitmap.andCardinality(bitmap, categoryBase);
+                if (count > 0) {
+                    categoryCounts.put(category, count);
+                }
+            });
+
+            RoaringBitmap priceBase = index.intersect(categoryFilter, null, stockFilter);
+            Map<String, Long> priceCounts = new LinkedHashMap<>();
+            for (int i = 0; i < index.byPriceBucket.length; i++) {
+                priceCounts.put(priceBucketLabels.get(i), (long) RoaringBitmap.andCardinality(index.byPriceBucket[i], priceBase));
+            }
+
+            RoaringBitmap stockBase = index.intersect(categoryFilter, priceFilter, null);
+            long inStockCount = RoaringBitmap.andCardinality(index.inStock, stockBase);
+            Map<String, Long> stockCounts = new LinkedHashMap<>();
+            stockCounts.put(IN_STOCK, inStockCount);
+            stockCounts.put(OUT_OF_STOCK, stockBase.getLongCardinality() - inStockCount);
+
+            return new FacetCounts(pageOf(matching, page, size), matching.getLongCardinality(),
+                    categoryCounts, priceCounts, stockCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Add or re-index a product once the current transaction commits.
+     * 
+     * @param product the saved product
+     */
+    public void putAfterCommit(Product product) {
+        int id = Math.toIntExact(product.getId());
+        FacetValues values = new FacetValues(product.getCategory(), bucketOf(product.getPrice()));
+        boolean available = product.getQuantity() != null && product.getQuantity() > 0;
+        afterCommit(() -> update(index -> {
+            index.remove(id);
+            index.add(id, values, available);
+        }));
+    }
+
+    /**
+     * Remove a product once the current transaction commits.
+     * 
+     * @param id the product ID
+     */
+    public void removeAfterCommit(Long id) {
+        int position = Math.toIntExact(id);
+        afterCommit(() -> update(index -> index.remove(position)));
+    }
+
+    /**
+     * Set the stock flag of an indexed product once the current transaction commits.
+     * 
+     * @param id the product ID
+     * @param inStock whether the product has available stock
+     */
+    public void setInStockAfterCommit(Long id, boolean inStock) {
+        int position = Math.toIntExact(id);
+        afterCommit(() -> update(index -> index.setInStock(position, inStock)));
+    }
+
+    /**
+     * Start building fresh bitmaps; entity writes applied until they are published are recorded for replay.
+     * 
+     * @return the rebuild in progress
+     */
+    @Override
+    public ProductIndexRebuilder.Rebuild startRebuild() {
+        Bitmaps fresh = new Bitmaps(priceBucketLabels.size());
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return new ProductIndexRebuilder.Rebuild() {
+
+            @Override
+            public void add(ProductIndexRow row) {
+                fresh.add(Math.toIntExact(row.id()), new FacetValues(row.category(), bucketOf(row.price())),
+                        row.quantity() != null && row.quantity() > 0);
+            }
+
+            @Override
+            public void publish() {
+                lock.writeLock().lock();
+                try {
+                    changesDuringRebuild.forEach(change -> change.accept(fresh));
+                    fresh.runOptimize();
+                    bitmaps = fresh;
+                    log.info("Product facet index rebuilt with {} products", fresh.all.getLongCardinality());
+                } finally {
+                    changesDuringRebuild = null;
+                    lock.writeLock().unlock();
+                }
+            }
+
+            @Override
+            public void abort() {
+                lock.writeLock().lock();
+                try {
+                    changesDuringRebuild = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+        };
+    }
+
+    /**
+     * Reconcile the in-stock bitmap with the database. The read runs under the write lock,
+     * so no after-commit update is overwritten by an older read.
+     */
+    @Scheduled(initialDelayString = "${product.facets.stock-reconcile-interval:PT10M}",
+               fixedDelayString = "${product.facets.stock-reconcile-interval:PT10M}")
+    public void reconcileStock() {
+        lock.writeLock().lock();
+        try {
+            RoaringBitmap reconciled = new RoaringBitmap();
+            productRepository.findInStockProductIds().forEach(id -> reconciled.add(Math.toIntExact(id)));
+            reconciled.and(bitmaps.all);
+            reconciled.runOptimize();
+            int drift = RoaringBitmap.xorCardinality(reconciled, bitmaps.inStock);
+            if (drift > 0) {
+                log.warn("Product facet stock flags of {} products were out of date", drift);
+            }
+            bitmaps.inStock = reconciled;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Apply an entity write to the live bitmaps, and record it for replay if a rebuild is in progress.
+     * 
+     * @param change the change to apply
+     */
+    private void update(Consumer<Bitmaps> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(bitmaps);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int bucketOf(BigDecimal price) {
+        if (price == null) {
+            return 0;
+        }
+        for (int i = 0; i < priceBoundaries.size(); i++) {
+            if (price.compareTo(priceBoundaries.get(i)) < 0) {
+                return i;
+            }
+        }
+        return priceBoundaries.size();
+    }
+
+    private int bucketIndex(String label) {
+        int index = priceBucketLabels.indexOf(label);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown price bucket: " + label + "; expected one of " + priceBucketLabels);
+        }
+        return index;
+    }
+
+    private static RoaringBitmap union(List<RoaringBitmap> bitmaps) {
+        return RoaringBitmap.or(bitmaps.stream().filter(Objects::nonNull).iterator());
+    }
+
+    private static List<Long> pageOf(RoaringBitmap matching, int page, int size) {
+        long offset = (long) page * size;
+        List<Long> ids = new ArrayList<>(size);
+        if (offset >= matching.getLongCardinality()) {
+            return ids;
+        }
+        PeekableIntIterator iterator = matching.getIntIterator();
+        iterator.advanceIfNeeded(matching.select((int) offset));
+        while (iterator.hasNext() && ids.size() < size) {
+            ids.add((long) iterator.next());
+        }
+        return ids;
+    }
+
+    private static List<String> bucketLabels(List<BigDecimal> boundaries) {
+        List<String> labels = new ArrayList<>(boundaries.size() + 1);
+        BigDecimal lower = BigDecimal.ZERO;
+        for (BigDecimal boundary : boundaries) {
+            labels.add(lower.toPlainString() + "-" + boundary.toPlainString());
+            lower = boundary;
+        }
+        labels.add(lower.toPlainString() + "+");
+        return labels;
+    }
+
+    /**
+     * Run an index update after the current transaction commits, or immediately if there is none.
+     * 
+     * @param update the index update
+     */
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    /**
+     * Result of a facet query: one page of matching product IDs, the total and the counts per facet value.
+     */
+    public record FacetCounts(List<Long> productIds, long total, Map<String, Long> categories,
+                              Map<String, Long> priceBuckets, Map<String, Long> stock) {
+    }
+
+    /**
+     * One complete set of facet bitmaps. Guarded by the index lock.
+     */
+    private static final class Bitmaps {
+
+        private final RoaringBitmap all = new RoaringBitmap();
+        private final Map<String, RoaringBitmap> byCategory = new HashMap<>();
+        private final RoaringBitmap[] byPriceBucket;
+        private final Map<Integer, FacetValues> valuesByProduct = new HashMap<>();
+        private RoaringBitmap inStock = new RoaringBitmap();
+
+        Bitmaps(int priceBuckets) {
+            byPriceBucket = new RoaringBitmap[priceBuckets];
+            for (int i = 0; i < priceBuckets; i++) {
+                byPriceBucket[i] = new RoaringBitmap();
+            }
+        }
+
+        void add(int id, FacetValues values, boolean available) {
+            all.add(id);
+            if (values.category() != null) {
+                byCategory.computeIfAbsent(values.category(), category -> new RoaringBitmap()).add(id);
+            }
+            byPriceBucket[values.priceBucket()].add(id);
+            if (available) {
+                inStock.add(id);
+            }
+            valuesByProduct.put(id, values);
+        }
+
+        void remove(int id) {
+            FacetValues values = valuesByProduct.remove(id);
+            if (values == null) {
+                return;
+            }
+            all.remove(id);
+            if (values.category() != null) {
+                RoaringBitmap bitmap = byCategory.get(values.category());
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) {
+                    byCategory.remove(values.category());
+                }
+            }
+            byPriceBucket[values.priceBucket()].remove(id);
+            inStock.remove(id);
+        }
+
+        void setInStock(int id, boolean available) {
+            if (!valuesByProduct.containsKey(id)) {
+                return;
+            }
+            if (available) {
+                inStock.add(id);
+            } else {
+                inStock.remove(id);
+            }
+        }
+
+        void runOptimize() {
+            all.runOptimize();
+            byCategory.values().forEach(RoaringBitmap::runOptimize);
+            for (RoaringBitmap bucket : byPriceBucket) {
+                bucket.runOptimize();
+            }
+            inStock.runOptimize();
+        }
+
+        RoaringBitmap intersect(RoaringBitmap... filters) {
+            RoaringBitmap result = all.clone();
+            for (RoaringBitmap filter : filters) {
+                if (filter != null) {
+                    result.and(filter);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Facet values currently indexed for one product.
+     */
+    private record FacetValues(String category, int priceBucket) {
+    }
+}
@@ -0,0 +1,346 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductDto;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.exception.InvalidImportException;
+import com.ecommerce.product.mapper.ProductMapper;
+import com.ecommerce.product.repository.ProductRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service for streaming catalog imports that upsert products by SKU.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    /**
+     * Maximum number of rejection messages returned in an import summary.
+     */
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private static final List<String> CSV_COLUMNS = List.of("name", "description", "price", "quantity", "category", "sku");
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final ProductCache productCache;
+    private final StockStripeService stockStripeService;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestionIndex productSuggestionIndex;
+    private final ProductFacetIndex productFacetIndex;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${product.import.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Import products from a CSV body with a header row.
+     * Recognised columns are name, description, price, quantity, category and sku.
+     * 
+     * @param input the CSV input stream
+     * @return the import summary
+     * @throws InvalidImportException if the header row is missing or lacks the sku column
+     */
+    public ImportSummary importCsv(InputStream input) {
+        log.info("Importing product catalog from CSV");
+
+        ImportRun run = new ImportRun();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new InvalidImportException("CSV import requires a header row");
+            }
+            Map<String, Integer> columns = parseCsvHeader(header);
+
+            String line;
+            long lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    run.add(lineNumber, toProductDto(parseCsvLine(line), columns));
+                } catch (IllegalArgumentException e) {
+                    run.reject(lineNumber, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read CSV catalog import", e);
+        }
+        return run.finish();
+    }
+
+    /**
+     * Import products from a newline-delimited JSON body, one product per line.
+     * 
+     * @param input the NDJSON input stream
+     * @return the import summary
+     */
+    public ImportSummary importNdjson(InputStream input) {
+        log.info("Importing product catalog from NDJSON");
+
+        ImportRun run = new ImportRun();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    run.add(lineNumber, objectMapper.readValue(line, ProductDto.class));
+                } catch (JsonProcessingException e) {
+                    run.reject(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read NDJSON catalog import", e);
+        }
+        return run.finish();
+    }
+
+    /**
+     * Insert or update one chunk of products in its own transaction.
+     * Existing products are found and row-locked with a single set-based SKU query, so stock
+     * reservations committed while the chunk runs are not overwritten by stale columns.
+     * 
+     * @param rows the products keyed by SKU
+     * @return {inserted, updated}
+     */
+    private int[] upsertChunk(Map<String, ProductDto> rows) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            Map<String, Product> existing = productRepository.findBySkuInForUpdate(rows.keySet()).stream()
+                    .collect(Collectors.toMap(Product::getSku, Function.identity()));
+
+            List<Product> newProducts = new ArrayList<>();
+            int updated = 0;
+            for (ProductDto productDto : rows.values()) {
+                Product product = existing.get(productDto.getSku());
+                if (product != null) {
+                    productMapper.updateEntity(product, productDto);
+                    if (product.getStockStripes() > 0) {
+                        stockStripeService.setQuantity(product, productDto.getQuantity());
+                    }
+                    productCache.evictAfterCommit(product.getId());
+                    updated++;
+                } else {
+                    productDto.setId(null);
+                    newProducts.add(productMapper.toEntity(productDto));
+                }
+            }
+
+            productRepository.saveAll(newProducts);
+            existing.values().forEach(productSearchIndex::indexAfterCommit);
+            newProducts.forEach(productSearchIndex::indexAfterCommit);
+            existing.values().forEach(productSuggestionIndex::putAfterCommit);
+            newProducts.forEach(productSuggestionIndex::putAfterCommit);
+            existing.values().forEach(productFacetIndex::putAfterCommit);
+            newProducts.forEach(productFacetIndex::putAfterCommit);
+            entityManager.flush();
+            entityManager.clear();
+            return new int[] {newProducts.size(), updated};
+        });
+    }
+
+    /**
+     * Map the CSV header row to column positions.
+     * 
+     * @param header the header line
+     * @return map of lower-case column name to index
+     */
+    private Map<String, Integer> parseCsvHeader(String header) {
+        List<String> names = parseCsvLine(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+            if (CSV_COLUMNS.contains(name)) {
+                columns.put(name, i);
+            }
+        }
+        if (!columns.containsKey("sku")) {
+            throw new InvalidImportException("CSV header must contain a sku column");
+        }
+        return columns;
+    }
+
+    /**
+     * Build a product DTO from parsed CSV fields.
+     * 
+     * @param fields the field values
+     * @param columns the column positions
+     * @return the product DTO
+     * @throws IllegalArgumentException if a numeric field is malformed
+     */
+    private ProductDto toProductDto(List<String> fields, Map<String, Integer> columns) {
+        String price = field(fields, columns, "price");
+        String quantity = field(fields, columns, "quantity");
+        try {
+            return ProductDto.builder()
+                    .name(field(fields, columns, "name"))
+                    .description(field(fields, columns, "description"))
+                    .price(price != null ? new BigDecimal(price) : null)
+                    .quantity(quantity != null ? Integer.valueOf(quantity) : null)
+                    .category(field(fields, columns, "category"))
+                    .sku(field(fields, columns, "sku"))
+                    .build();
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed number in price or quantity");
+        }
+    }
+
+    private String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Split a single CSV line into fields, honouring double-quoted fields and escaped quotes.
+     * 
+     * @param line the CSV line
+     * @return the field values
+     * @throws IllegalArgumentException if a quoted field is not terminated
+     */
+    private static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    /**
+     * State of a single import: the pending chunk and running counters.
+     */
+    private class ImportRun {
+
+        private final Map<String, ProductDto> pending = new LinkedHashMap<>();
+        private final Map<String, Long> pendingLines = new HashMap<>();
+        private final List<String> errors = new ArrayList<>();
+        private long inserted;
+        private long updated;
+        private long rejected;
+
+        void add(long lineNumber, ProductDto productDto) {
+            Set<ConstraintViolation<ProductDto>> violations = validator.validate(productDto);
+            if (!violations.isEmpty()) {
+                reject(lineNumber, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+                return;
+            }
+            if (productDto.getSku() == null || productDto.getSku().isBlank()) {
+                reject(lineNumber, "sku: SKU is required for import");
+                return;
+            }
+
+            if (pending.containsKey(productDto.getSku())) {
+                flush();
+            }
+            pending.put(productDto.getSku(), productDto);
+            pendingLines.put(productDto.getSku(), lineNumber);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long lineNumber, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("Line " + lineNumber + ": " + message);
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                int[] counts = upsertChunk(pending);
+                inserted += counts[0];
+                updated += counts[1];
+            } catch (RuntimeException e) {
+                log.warn("Catalog import chunk of {} rows failed: {}", pending.size(), e.getMessage());
+                pendingLines.values().stream().sorted()
+                        .forEach(lineNumber -> reject(lineNumber, "Chunk rejected: " + e.getMessage()));
+            }
+            pending.clear();
+            pendingLines.clear();
+        }
+
+        ImportSummary finish() {
+            flush();
+            log.info("Catalog import finished: {} inserted, {} updated, {} rejected", inserted, updated, rejected);
+            return new ImportSummary(inserted, updated, rejected, errors);
+        }
+    }
+
+    /**
+     * DTO for the outcome of a catalog import.
+     */
+    public record ImportSummary(long inserted, long updated, long rejected, List<String> errors) {
+    }
+}
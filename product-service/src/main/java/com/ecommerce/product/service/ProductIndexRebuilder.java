@@ -0,0 +1,103 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductIndexRow;
+import com.ecommerce.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rebuilds the in-memory product indexes from one shared scan of the products table.
+ * Each index builds a fresh structure next to the live one, records the changes committed
+ * while the scan runs, and swaps the new structure in after replaying them, so searches
+ * never see a partly built index and no concurrent write is lost.
+ *
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductIndexRebuilder {
+
+    /**
+     * Number of products read per query during the scan.
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final List<RebuildableIndex> indexes;
+
+    /**
+     * Rebuild every index once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        log.info("Rebuilding {} product indexes from database", indexes.size());
+
+        List<Rebuild> rebuilds = new ArrayList<>(indexes.size());
+        long scanned = 0;
+        try {
+            for (RebuildableIndex index : indexes) {
+                rebuilds.add(index.startRebuild());
+            }
+            long lastId = 0;
+            List<ProductIndexRow> batch;
+            do {
+                batch = productRepository.findIndexRowsAfter(lastId, PageRequest.ofSize(BATCH_SIZE));
+                for (ProductIndexRow row : batch) {
+                    rebuilds.forEach(rebuild -> rebuild.add(row));
+                    lastId = row.id();
+                }
+                scanned += batch.size();
+            } while (batch.size() == BATCH_SIZE);
+        } catch (RuntimeException e) {
+            rebuilds.forEach(Rebuild::abort);
+            throw e;
+        }
+        rebuilds.forEach(Rebuild::publish);
+        log.info("Product indexes rebuilt with {} products", scanned);
+    }
+
+    /**
+     * An in-memory index that can be rebuilt from the shared scan.
+     */
+    public interface RebuildableIndex {
+
+        /**
+         * Start building a fresh copy of the index and start recording live changes for replay.
+         *
+         * @return the rebuild in progress
+         */
+        Rebuild startRebuild();
+    }
+
+    /**
+     * A rebuild in progress. The live index keeps serving reads and applying changes until it is published.
+     */
+    public interface Rebuild {
+
+        /**
+         * Add one scanned product to the fresh index.
+         *
+         * @param row the product row
+         */
+        void add(ProductIndexRow row);
+
+        /**
+         * Replay the changes recorded since the rebuild started and swap the fresh index in.
+         */
+        void publish();
+
+        /**
+         * Discard the fresh index and stop recording changes.
+         */
+        void abort();
+    }
+}
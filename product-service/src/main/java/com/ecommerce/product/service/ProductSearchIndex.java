@@ -0,0 +1,372 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductIndexRow;
+import com.ecommerce.product.entity.Product;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process Lucene index over product name, description, category and SKU.
+ * The index is rebuilt by {@link ProductIndexRebuilder} into a fresh directory that replaces
+ * the live one when complete, and updated incrementally after each writing transaction
+ * commits; searches see changes after the next periodic refresh.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex implements ProductIndexRebuilder.RebuildableIndex {
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String CATEGORY = "category";
+    private static final String SKU = "sku";
+    private static final String SKU_EXACT = "sku_exact";
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Index current;
+    private volatile Queue<IndexChange> changesDuringRebuild;
+
+    public ProductSearchIndex() {
+        this.current = openIndex();
+    }
+
+    /**
+     * Start building a fresh index; changes applied until it is published are recorded for replay.
+     * 
+     * @return the rebuild in progress
+     */
+    @Override
+    public ProductIndexRebuilder.Rebuild startRebuild() {
+        Index fresh = openIndex();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ConcurrentLinkedQueue<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return new ProductIndexRebuilder.Rebuild() {
+
+            @Override
+            public void add(ProductIndexRow row) {
+                try {
+                    fresh.writer().addDocument(toDocument(row.id(), row.name(), row.description(), row.category(), row.sku()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to rebuild product search index", e);
+                }
+            }
+
+            @Override
+            public void publish() {
+                Index previous;
+                lock.writeLock().lock();
+                try {
+                    for (IndexChange change : changesDuringRebuild) {
+                        change.apply(fresh.writer());
+                    }
+                    fresh.writer().commit();
+                    fresh.searcherManager().maybeRefresh();
+                    previous = current;
+                    current = fresh;
+                    changesDuringRebuild = null;
+                } catch (IOException e) {
+                    changesDuringRebuild = null;
+                    close(fresh);
+                    throw new UncheckedIOException("Failed to publish rebuilt product search index", e);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                close(previous);
+            }
+
+            @Override
+            public void abort() {
+                lock.writeLock().lock();
+                try {
+                    changesDuringRebuild = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                close(fresh);
+            }
+        };
+    }
+
+    /**
+     * Index or re-index a product once the current transaction commits.
+     * 
+     * @param product the saved product
+     */
+    public void indexAfterCommit(Product product) {
+        Document document = toDocument(product.getId(), product.getName(), product.getDescription(),
+                product.getCategory(), product.getSku());
+        Term id = new Term(ID, product.getId().toString());
+        afterCommit(writer -> writer.updateDocument(id, document));
+    }
+
+    /**
+     * Remove a product from the index once the current transaction commits.
+     * 
+     * @param id the product ID
+     */
+    public void removeAfterCommit(Long id) {
+        Term term = new Term(ID, id.toString());
+        afterCommit(writer -> writer.deleteDocuments(term));
+    }
+
+    /**
+     * Find product IDs matching free text, best match first. Every word must match a field,
+     * either exactly, as a prefix, or within a small edit distance; an exact SKU ranks highest.
+     * 
+     * @param text the search text
+     * @param limit the maximum number of results
+     * @return matching product IDs in relevance order
+     */
+    public List<Long> search(String text, int limit) {
+        Query query = buildQuery(text);
+        if (query == null) {
+            return List.of();
+        }
+
+        try {
+            SearcherManager searcherManager;
+            IndexSearcher searcher;
+            lock.readLock().lock();
+            try {
+                searcherManager = current.searcherManager();
+                searcher = searcherManager.acquire();
+            } finally {
+                lock.readLock().unlock();
+            }
+            try {
+                ScoreDoc[] hits = searcher.search(query, limit).scoreDocs;
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>(hits.length);
+                for (ScoreDoc hit : hits) {
+                    ids.add(Long.valueOf(storedFields.document(hit.doc).get(ID)));
+                }
+                return ids;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Product search failed", e);
+        }
+    }
+
+    /**
+     * Make committed index changes visible to searches. Cheap when nothing changed.
+     */
+    @Scheduled(fixedDelayString = "${product.search.refresh-interval:PT0.1S}")
+    public void refresh() {
+        lock.readLock().lock();
+        try {
+            current.searcherManager().maybeRefresh();
+        } catch (IOException e) {
+            log.error("Failed to refresh product search index: {}", e.getMessage(), e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Close the index on shutdown.
+     */
+    @PreDestroy
+    public void close() {
+        close(current);
+    }
+
+    /**
+     * Build the relevance query for the search text.
+     * 
+     * @param text the search text
+     * @return the query, or null if the text contains no searchable words
+     */
+    private Query buildQuery(String text) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        BooleanQuery.Builder allTerms = new BooleanQuery.Builder();
+        for (String term : terms) {
+            BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+            addTermClauses(anyField, NAME, term, 3.0f, true);
+            addTermClauses(anyField, SKU, term, 2.0f, false);
+            addTermClauses(anyField, CATEGORY, term, 1.5f, false);
+            anyField.add(new TermQuery(new Term(DESCRIPTION, term)), BooleanClause.Occur.SHOULD);
+            allTerms.add(anyField.build(), BooleanClause.Occur.MUST);
+        }
+
+        return new BooleanQuery.Builder()
+                .add(allTerms.build(), BooleanClause.Occur.SHOULD)
+                .add(new BoostQuery(new TermQuery(new Term(SKU_EXACT, text.trim().toLowerCase(Locale.ROOT))), 10.0f),
+                        BooleanClause.Occur.SHOULD)
+                .build();
+    }
+
+    /**
+     * Add exact, prefix and optionally fuzzy matches of one word on one field.
+     * Exact matches score above prefix matches, which score above fuzzy matches.
+     */
+    private void addTermClauses(BooleanQuery.Builder builder, String field, String term, float boost, boolean fuzzy) {
+        builder.add(new BoostQuery(new TermQuery(new Term(field, term)), boost * 2), BooleanClause.Occur.SHOULD);
+        builder.add(new BoostQuery(new PrefixQuery(new Term(field, term)), boost), BooleanClause.Occur.SHOULD);
+        if (fuzzy && term.length() >= 3) {
+            int maxEdits = term.length() < 6 ? 1 : 2;
+            builder.add(new BoostQuery(new FuzzyQuery(new Term(field, term), maxEdits, 1), boost / 2),
+                    BooleanClause.Occur.SHOULD);
+        }
+    }
+
+    /**
+     * Split search text into index terms with the same analyzer used for indexing.
+     * 
+     * @param text the search text
+     * @return the analyzed terms
+     */
+    private List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(NAME, text)) {
+            CharTermAttribute attribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(attribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to analyze search text", e);
+        }
+        return terms;
+    }
+
+    private Document toDocument(Long id, String name, String description, String category, String sku) {
+        Document document = new Document();
+        document.add(new StringField(ID, id.toString(), Field.Store.YES));
+        document.add(new TextField(NAME, name, Field.Store.NO));
+        if (description != null) {
+            document.add(new TextField(DESCRIPTION, description, Field.Store.NO));
+        }
+        if (category != null) {
+            document.add(new TextField(CATEGORY, category, Field.Store.NO));
+        }
+        if (sku != null) {
+            document.add(new TextField(SKU, sku, Field.Store.NO));
+            document.add(new StringField(SKU_EXACT, sku.toLowerCase(Locale.ROOT), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private Index openIndex() {
+        try {
+            IndexWriter writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+            return new Index(writer, new SearcherManager(writer, null));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open product search index", e);
+        }
+    }
+
+    private void close(Index index) {
+        try {
+            index.searcherManager().close();
+            index.writer().close();
+        } catch (IOException e) {
+            log.warn("Failed to close product search index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Apply an index change after the current transaction commits, or immediately if there is none.
+     * 
+     * @param change the index change
+     */
+    private void afterCommit(IndexChange change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyChange(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyChange(change);
+            }
+        });
+    }
+
+    /**
+     * Apply a change to the live index, and record it for replay if a rebuild is in progress.
+     * 
+     * @param change the index change
+     */
+    private void applyChange(IndexChange change) {
+        lock.readLock().lock();
+        try {
+            change.apply(current.writer());
+            Queue<IndexChange> recorded = changesDuringRebuild;
+            if (recorded != null) {
+                recorded.add(change);
+            }
+        } catch (IOException e) {
+            log.error("Failed to update product search index: {}", e.getMessage(), e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A single index write that may fail with an IOException.
+     */
+    @FunctionalInterface
+    private interface IndexChange {
+
+        void apply(IndexWriter writer) throws IOException;
+    }
+
+    /**
+     * A Lucene index with its writer and near-real-time searcher manager.
+     */
+    private record Index(IndexWriter writer, SearcherManager searcherManager) {
+    }
+}
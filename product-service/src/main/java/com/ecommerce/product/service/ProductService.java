@@ -1,19 +1,36 @@
 package com.ecommerce.product.service;
 
 import com.ecommerce.product.dto.ProductDto;
+import com.ecommerce.product.dto.ProductView;
+import com.ecommerce.product.dto.StockReservationDto;
 import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.exception.InsufficientStockException;
 import com.ecommerce.product.exception.ProductNotFoundException;
 import com.ecommerce.product.exception.ProductAlreadyExistsException;
 import com.ecommerce.product.mapper.ProductMapper;
 import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.repository.ProductSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Service class for Product business logic.
@@ -26,8 +43,33 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ProductService {
 
+    /**
+     * Maximum number of keys accepted by a single batch lookup.
+     */
+    public static final int MAX_BATCH_LOOKUP_SIZE = 10000;
+
+    /**
+     * Maximum number of results returned by a full-text search.
+     */
+    public static final int MAX_SEARCH_RESULTS = 100;
+
+    /**
+     * Properties the filter endpoint may sort by.
+     */
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "name", "price", "quantity", "createdAt");
+
+    /**
+     * Maximum number of values bound into a single IN clause.
+     */
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
     private final ProductRepository productRepository;
     private final ProductMapper productMapper;
+    private final ProductCache productCache;
+    private final StockStripeService stockStripeService;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggestionIndex productSuggestionIndex;
+    private final ProductFacetIndex productFacetIndex;
 
     /**
      * Create a new product.
@@ -51,6 +93,9 @@ public class ProductService {
         }
 
         Product savedProduct = productRepository.save(product);
+        productSearchIndex.indexAfterCommit(savedProduct);
+        productSuggestionIndex.putAfterCommit(savedProduct);
+        productFacetIndex.putAfterCommit(savedProduct);
         log.info("Product created successfully with ID: {}", savedProduct.getId());
 
         return productMapper.toDto(savedProduct);
@@ -63,13 +108,14 @@ public class ProductService {
      * @return the product
      * @throws ProductNotFoundException if the product is not found
      */
+    @Transactional(readOnly = true)
     public ProductDto getProductById(Long id) {
         log.debug("Fetching product with ID: {}", id);
         
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + id));
-
-        return productMapper.toDto(product);
+        return productCache.getById(id, productId -> productRepository.findById(productId)
+                .map(productMapper::toDto)
+                .map(stockStripeService::withStripeTotals)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + productId)));
     }
 
     /**
@@ -79,13 +125,50 @@ public class ProductService {
      * @return the product
      * @throws ProductNotFoundException if the product is not found
      */
+    @Transactional(readOnly = true)
     public ProductDto getProductBySku(String sku) {
         log.debug("Fetching product with SKU: {}", sku);
         
-        Product product = productRepository.findBySku(sku)
-                .orElseThrow(() -> new ProductNotFoundException("Product not found with SKU: " + sku));
+        return productCache.getBySku(sku, productSku -> productRepository.findBySku(productSku)
+                .map(productMapper::toDto)
+                .map(stockStripeService::withStripeTotals)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with SKU: " + productSku)));
+    }
+
+    /**
+     * Get several products by ID. Results follow the request order, one per requested ID,
+     * with a not-found marker for IDs that do not exist.
+     * 
+     * @param ids the product IDs
+     * @return one lookup result per requested ID
+     * @throws IllegalArgumentException if more than {@value #MAX_BATCH_LOOKUP_SIZE} IDs are requested
+     */
+    @Transactional(readOnly = true)
+    public List<ProductLookup<Long>> getProductsByIds(List<Long> ids) {
+        log.debug("Fetching {} products by ID", ids.size());
 
-        return productMapper.toDto(product);
+        Map<Long, ProductDto> products = lookup(ids, productRepository::findAllById, ProductDto::getId);
+        return ids.stream()
+                .map(id -> ProductLookup.of(id, products.get(id)))
+                .toList();
+    }
+
+    /**
+     * Get several products by SKU. Results follow the request order, one per requested SKU,
+     * with a not-found marker for SKUs that do not exist.
+     * 
+     * @param skus the product SKUs
+     * @return one lookup result per requested SKU
+     * @throws IllegalArgumentException if more than {@value #MAX_BATCH_LOOKUP_SIZE} SKUs are requested
+     */
+    @Transactional(readOnly = true)
+    public List<ProductLookup<String>> getProductsBySkus(List<String> skus) {
+        log.debug("Fetching {} products by SKU", skus.size());
+
+        Map<String, ProductDto> products = lookup(skus, productRepository::findBySkuIn, ProductDto::getSku);
+        return skus.stream()
+                .map(sku -> ProductLookup.of(sku, products.get(sku)))
+                .toList();
     }
 
     /**
@@ -93,11 +176,12 @@ public class ProductService {
      * 
      * @return list of all products
      */
+    @Transactional(readOnly = true)
     public List<ProductDto> getAllProducts() {
         log.debug("Fetching all products");
         
-        List<Product> products = productRepository.findAll();
-        return productMapper.toDtoList(products);
+        List<ProductView> products = productRepository.findAllProjectedBy();
+        return productMapper.toDtoListFromViews(products);
     }
 
     /**
@@ -106,11 +190,12 @@ public class ProductService {
      * @param category the category to filter by
      * @return list of products in the category
      */
+    @Transactional(readOnly = true)
     public List<ProductDto> getProductsByCategory(String category) {
         log.debug("Fetching products by category: {}", category);
         
-        List<Product> products = productRepository.findByCategory(category);
-        return productMapper.toDtoList(products);
+        List<ProductView> products = productRepository.findByCategory(category);
+        return productMapper.toDtoListFromViews(products);
     }
 
     /**
@@ -118,11 +203,12 @@ public class ProductService {
      * 
      * @return list of products with quantity > 0
      */
+    @Transactional(readOnly = true)
     public List<ProductDto> getInStockProducts() {
         log.debug("Fetching in-stock products");
         
-        List<Product> products = productRepository.findInStockProducts();
-        return productMapper.toDtoList(products);
+        List<ProductView> products = productRepository.findInStockProducts();
+        return productMapper.toDtoListFromViews(products);
     }
 
     /**
@@ -131,11 +217,96 @@ public class ProductService {
      * @param name the name fragment to search for
      * @return list of matching products
      */
+    @Transactional(readOnly = true)
     public List<ProductDto> searchProductsByName(String name) {
         log.debug("Searching products by name: {}", name);
         
-        List<Product> products = productRepository.findByNameContainingIgnoreCase(name);
-        return productMapper.toDtoList(products);
+        List<ProductView> products = productRepository.findByNameContainingIgnoreCase(name);
+        return productMapper.toDtoListFromViews(products);
+    }
+
+    /**
+     * Full-text search over product name, description, category and SKU, best match first.
+     * 
+     * @param text the search text
+     * @param limit the maximum number of results
+     * @return matching products in relevance order
+     */
+    @Transactional(readOnly = true)
+    public List<ProductDto> searchProducts(String text, int limit) {
+        log.debug("Full-text searching products: {}", text);
+
+        int effectiveLimit = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        return getProductsByIds(productSearchIndex.search(text, effectiveLimit)).stream()
+                .filter(ProductLookup::found)
+                .map(ProductLookup::product)
+                .toList();
+    }
+
+    /**
+     * Get typeahead suggestions for a name or SKU prefix, most popular first.
+     * 
+     * @param prefix the typed prefix
+     * @param limit the maximum number of suggestions
+     * @return the suggestions
+     */
+    public List<ProductSuggestionIndex.Suggestion> suggestProducts(String prefix, int limit) {
+        log.debug("Suggesting products for prefix: {}", prefix);
+
+        return productSuggestionIndex.suggest(prefix, Math.max(1, limit));
+    }
+
+    /**
+     * Browse products with combined category, price bucket and stock filters,
+     * returning one page of products together with facet counts.
+     * 
+     * @param categories categories to include, empty for all
+     * @param priceBuckets price bucket labels to include, empty for all
+     * @param inStock true for in-stock only, false for out-of-stock only, null for both
+     * @param page the zero-based page number
+     * @param size the page size
+     * @return the page of products and the facet counts
+     * @throws IllegalArgumentException if a price bucket label is unknown
+     */
+    @Transactional(readOnly = true)
+    public FacetedProducts browseProducts(List<String> categories, List<String> priceBuckets, Boolean inStock,
+                                          int page, int size) {
+        log.debug("Browsing products: categories={}, priceBuckets={}, inStock={}", categories, priceBuckets, inStock);
+
+        int effectiveSize = Math.max(1, Math.min(size, MAX_SEARCH_RESULTS));
+        ProductFacetIndex.FacetCounts counts = productFacetIndex.query(categories, priceBuckets, inStock,
+                Math.max(0, page), effectiveSize);
+        List<ProductDto> products = getProductsByIds(counts.productIds()).stream()
+                .filter(ProductLookup::found)
+                .map(ProductLookup::product)
+                .toList();
+        return new FacetedProducts(products, counts.total(), counts.categories(), counts.priceBuckets(),
+                counts.stock());
+    }
+
+    /**
+     * Filter products by any combination of predicates in a single paged query.
+     * 
+     * @param filter the filter; absent fields do not constrain the result
+     * @return the requested page of matching products
+     * @throws IllegalArgumentException if the sort property or direction is not supported
+     */
+    @Transactional(readOnly = true)
+    public ProductPage filterProducts(ProductFilter filter) {
+        log.debug("Filtering products: {}", filter);
+
+        Specification<Product> specification = Specification.allOf(
+                ProductSpecifications.hasCategory(filter.category()),
+                ProductSpecifications.priceAtLeast(filter.minPrice()),
+                ProductSpecifications.priceAtMost(filter.maxPrice()),
+                ProductSpecifications.inStock(filter.inStock()),
+                ProductSpecifications.nameContains(filter.name()));
+        int size = Math.max(1, Math.min(filter.size(), MAX_SEARCH_RESULTS));
+        PageRequest pageRequest = PageRequest.of(Math.max(0, filter.page()), size, parseSort(filter.sort()));
+
+        Page<Product> page = productRepository.findAll(specification, pageRequest);
+        return new ProductPage(productMapper.toDtoList(page.getContent()), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
     }
 
     /**
@@ -145,15 +316,17 @@ public class ProductService {
      * @param maxPrice the maximum price
      * @return list of products within the price range
      */
+    @Transactional(readOnly = true)
     public List<ProductDto> getProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
         log.debug("Fetching products within price range: {} - {}", minPrice, maxPrice);
         
-        List<Product> products = productRepository.findByPriceBetween(minPrice, maxPrice);
-        return productMapper.toDtoList(products);
+        List<ProductView> products = productRepository.findByPriceBetween(minPrice, maxPrice);
+        return productMapper.toDtoListFromViews(products);
     }
 
     /**
-     * Update an existing product.
+     * Update an existing product. The product row is locked first, so reservations that commit
+     * concurrently are not overwritten by the stock columns read before them.
      * 
      * @param id the product ID
      * @param productDto the updated product data
@@ -165,7 +338,7 @@ public class ProductService {
     public ProductDto updateProduct(Long id, ProductDto productDto) {
         log.info("Updating product with ID: {}", id);
 
-        Product existingProduct = productRepository.findById(id)
+        Product existingProduct = productRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + id));
 
         if (productDto.getSku() != null && !productDto.getSku().equals(existingProduct.getSku())) {
@@ -175,10 +348,17 @@ public class ProductService {
         }
 
         productMapper.updateEntity(existingProduct, productDto);
+        if (existingProduct.getStockStripes() > 0) {
+            stockStripeService.setQuantity(existingProduct, productDto.getQuantity());
+        }
         Product updatedProduct = productRepository.save(existingProduct);
+        productCache.evictAfterCommit(id);
+        productSearchIndex.indexAfterCommit(updatedProduct);
+        productSuggestionIndex.putAfterCommit(updatedProduct);
+        productFacetIndex.putAfterCommit(updatedProduct);
         
         log.info("Product updated successfully with ID: {}", updatedProduct.getId());
-        return productMapper.toDto(updatedProduct);
+        return stockStripeService.withStripeTotals(productMapper.toDto(updatedProduct));
     }
 
     /**
@@ -195,12 +375,17 @@ public class ProductService {
             throw new ProductNotFoundException("Product not found with ID: " + id);
         }
 
+        stockStripeService.deleteStripes(id);
         productRepository.deleteById(id);
+        productCache.evictAfterCommit(id);
+        productSearchIndex.removeAfterCommit(id);
+        productSuggestionIndex.removeAfterCommit(id);
+        productFacetIndex.removeAfterCommit(id);
         log.info("Product deleted successfully with ID: {}", id);
     }
 
     /**
-     * Update product quantity.
+     * Update product quantity, holding the product row lock so concurrent reservations are kept.
      * 
      * @param id the product ID
      * @param quantity the new quantity
@@ -211,16 +396,208 @@ public class ProductService {
     public ProductDto updateProductQuantity(Long id, Integer quantity) {
         log.info("Updating quantity for product with ID: {} to {}", id, quantity);
 
-        Product product = productRepository.findById(id)
+        Product product = productRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + id));
 
-        product.setQuantity(quantity);
+        if (product.getStockStripes() > 0) {
+            stockStripeService.setQuantity(product, quantity);
+        } else {
+            product.setQuantity(quantity);
+        }
         Product updatedProduct = productRepository.save(product);
+        productCache.evictAfterCommit(id);
+        productFacetIndex.putAfterCommit(updatedProduct);
         
         log.info("Product quantity updated successfully for ID: {}", id);
+        return stockStripeService.withStripeTotals(productMapper.toDto(updatedProduct));
+    }
+
+    /**
+     * Switch a product between a single stock row and striped stock.
+     * 
+     * @param id the product ID
+     * @param stripes the number of stripes, or 0 to disable striping
+     * @return the updated product
+     * @throws ProductNotFoundException if the product is not found
+     * @throws IllegalArgumentException if the stripe count is out of range
+     */
+    @Transactional
+    public ProductDto updateStockStripes(Long id, int stripes) {
+        log.info("Setting stock stripes for product with ID: {} to {}", id, stripes);
+
+        Product product = productRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + id));
+
+        stockStripeService.configure(product, stripes);
+        Product updatedProduct = productRepository.save(product);
+        productCache.evictAfterCommit(id);
+        productFacetIndex.putAfterCommit(updatedProduct);
+
         return productMapper.toDto(updatedProduct);
     }
 
+    /**
+     * Reserve stock for every line of a reservation, all or nothing.
+     * 
+     * @param reservation the reservation lines
+     * @throws ProductNotFoundException if a product does not exist
+     * @throws InsufficientStockException if a product does not have enough available stock
+     */
+    @Transactional
+    public void reserveStock(StockReservationDto reservation) {
+        log.info("Reserving stock for {} lines", reservation.getLines().size());
+
+        applyStockChange(reservation, StockOperation.RESERVE);
+    }
+
+    /**
+     * Release previously reserved stock back to available stock, all or nothing.
+     * 
+     * @param reservation the reservation lines
+     * @throws ProductNotFoundException if a product does not exist
+     * @throws InsufficientStockException if a product has less reserved stock than requested
+     */
+    @Transactional
+    public void releaseStock(StockReservationDto reservation) {
+        log.info("Releasing stock for {} lines", reservation.getLines().size());
+
+        applyStockChange(reservation, StockOperation.RELEASE);
+    }
+
+    /**
+     * Commit previously reserved stock as sold, all or nothing.
+     * 
+     * @param reservation the reservation lines
+     * @throws ProductNotFoundException if a product does not exist
+     * @throws InsufficientStockException if a product has less reserved stock than requested
+     */
+    @Transactional
+    public void commitStock(StockReservationDto reservation) {
+        log.info("Committing stock for {} lines", reservation.getLines().size());
+
+        applyStockChange(reservation, StockOperation.COMMIT);
+    }
+
+    /**
+     * Apply one conditional stock update per product. Lines for the same product are merged
+     * and products are updated in ID order, so concurrent multi-line calls lock rows consistently.
+     * Striped products are updated on their stripes instead of the product row; if that fails
+     * because striping was reconfigured in the meantime, the update is retried once on the new layout.
+     * Reservations and releases pass the resulting stock flag to the facet index after commit.
+     * 
+     * @param reservation the reservation lines
+     * @param operation the stock operation
+     */
+    private void applyStockChange(StockReservationDto reservation, StockOperation operation) {
+        Map<Long, Integer> amounts = new TreeMap<>();
+        for (StockReservationDto.Line line : reservation.getLines()) {
+            amounts.merge(line.getProductId(), line.getQuantity(), Integer::sum);
+        }
+
+        amounts.forEach((productId, amount) -> {
+            int stripes = findStockStripes(productId);
+            boolean applied = applyToStock(operation, productId, stripes, amount);
+            if (!applied) {
+                // Striping may have been switched on or off after the stripe count was read
+                int currentStripes = findStockStripes(productId);
+                applied = currentStripes != stripes && applyToStock(operation, productId, currentStripes, amount);
+                stripes = currentStripes;
+            }
+            if (!applied) {
+                throw new InsufficientStockException(operation.failureMessage(amount, productId));
+            }
+            if (operation == StockOperation.COMMIT) {
+                productSuggestionIndex.recordSaleAfterCommit(productId, amount);
+            } else {
+                productFacetIndex.setInStockAfterCommit(productId, availableQuantity(productId, stripes) > 0);
+            }
+            productCache.evictAfterCommit(productId);
+        });
+    }
+
+    private int findStockStripes(Long productId) {
+        return productRepository.findStockStripesById(productId)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found with ID: " + productId));
+    }
+
+    /**
+     * Get the available quantity of a product after a stock change in the current transaction.
+     * For an unstriped product the updated row is still locked, so the value is exact.
+     * 
+     * @param productId the product ID
+     * @param stripes the number of stripes the change was applied to
+     * @return the available quantity
+     */
+    private int availableQuantity(Long productId, int stripes) {
+        return stripes > 0
+                ? stockStripeService.availableQuantity(productId)
+                : productRepository.findQuantityById(productId).orElse(0);
+    }
+
+    private boolean applyToStock(StockOperation operation, Long productId, int stripes, int amount) {
+        return stripes > 0
+                ? stockStripeService.apply(productId, stripes, amount, operation)
+                : applyToProduct(operation, productId, amount) == 1;
+    }
+
+    private int applyToProduct(StockOperation operation, Long productId, int amount) {
+        return switch (operation) {
+            case RESERVE -> productRepository.reserveStock(productId, amount);
+            case RELEASE -> productRepository.releaseStock(productId, amount);
+            case COMMIT -> productRepository.commitStock(productId, amount);
+        };
+    }
+
+    /**
+     * Parse a sort parameter of the form {@code property[,asc|desc]}; ID breaks ties.
+     * 
+     * @param sort the sort parameter, or null for ID order
+     * @return the sort
+     * @throws IllegalArgumentException if the property or direction is not supported
+     */
+    private Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by("id");
+        }
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (!SORTABLE_PROPERTIES.contains(property)) {
+            throw new IllegalArgumentException("Cannot sort by " + property + "; expected one of " + SORTABLE_PROPERTIES);
+        }
+        Sort.Direction direction = parts.length > 1 ? Sort.Direction.fromString(parts[1].trim()) : Sort.Direction.ASC;
+        return Sort.by(direction, property).and(Sort.by("id"));
+    }
+
+    /**
+     * Load the products for a list of keys with one IN query per chunk of distinct keys.
+     * 
+     * @param keys the requested keys, possibly with duplicates or nulls
+     * @param finder the IN query
+     * @param keyOf extracts the key from a loaded product
+     * @return map of key to product for every key that exists
+     */
+    private <K> Map<K, ProductDto> lookup(List<K> keys, Function<Collection<K>, List<Product>> finder,
+                                          Function<ProductDto, K> keyOf) {
+        if (keys.size() > MAX_BATCH_LOOKUP_SIZE) {
+            throw new IllegalArgumentException("Batch lookup is limited to " + MAX_BATCH_LOOKUP_SIZE + " keys");
+        }
+
+        List<K> distinct = new ArrayList<>(new LinkedHashSet<>(keys));
+        distinct.removeIf(Objects::isNull);
+        List<ProductDto> found = new ArrayList<>(distinct.size());
+        for (int from = 0; from < distinct.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<K> chunk = distinct.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, distinct.size()));
+            found.addAll(productMapper.toDtoList(finder.apply(chunk)));
+        }
+        stockStripeService.withStripeTotals(found);
+
+        Map<K, ProductDto> products = new HashMap<>();
+        for (ProductDto productDto : found) {
+            products.put(keyOf.apply(productDto), productDto);
+        }
+        return products;
+    }
+
     /**
      * Generate a unique SKU.
      * 
@@ -229,4 +606,38 @@ public class ProductService {
     private String generateUniqueSku() {
         return "SKU-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
+
+    /**
+     * DTO for one entry of a batch lookup.
+     * 
+     * @param key the requested ID or SKU
+     * @param found whether a product exists for the key
+     * @param product the product, or null if not found
+     */
+    public record ProductLookup<K>(K key, boolean found, ProductDto product) {
+
+        static <K> ProductLookup<K> of(K key, ProductDto product) {
+            return new ProductLookup<>(key, product != null, product);
+        }
+    }
+
+    /**
+     * DTO for a faceted browse result.
+     */
+    public record FacetedProducts(List<ProductDto> products, long total, Map<String, Long> categories,
+                                  Map<String, Long> priceBuckets, Map<String, Long> stock) {
+    }
+
+    /**
+     * Parameters of a composite product filter.
+     */
+    public record ProductFilter(String category, BigDecimal minPrice, BigDecimal maxPrice, Boolean inStock,
+                                String name, String sort, int page, int size) {
+    }
+
+    /**
+     * DTO for one page of filtered products.
+     */
+    public record ProductPage(List<ProductDto> products, int page, int size, long totalElements, int totalPages) {
+    }
 }
@@ -0,0 +1,87 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductDto;
+import com.ecommerce.product.mapper.ProductMapper;
+import com.ecommerce.product.repository.ProductReactiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+
+/**
+ * Service for the reactive catalog read path. Rows are fetched from R2DBC as the
+ * client consumes them, so a slow reader holds neither a thread nor a full result list.
+ * Stock of striped products is the write-behind mirror on the product row.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductStreamService {
+
+    private final ProductReactiveRepository productReactiveRepository;
+    private final ProductMapper productMapper;
+
+    /**
+     * Stream all products.
+     * 
+     * @return flux of all products
+     */
+    public Flux<ProductDto> streamAllProducts() {
+        log.debug("Streaming all products");
+
+        return productReactiveRepository.findAllByOrderByIdAsc().map(productMapper::toDto);
+    }
+
+    /**
+     * Stream products by category.
+     * 
+     * @param category the category to filter by
+     * @return flux of products in the category
+     */
+    public Flux<ProductDto> streamProductsByCategory(String category) {
+        log.debug("Streaming products by category: {}", category);
+
+        return productReactiveRepository.findByCategoryOrderByIdAsc(category).map(productMapper::toDto);
+    }
+
+    /**
+     * Stream in-stock products.
+     * 
+     * @return flux of products with quantity > 0
+     */
+    public Flux<ProductDto> streamInStockProducts() {
+        log.debug("Streaming in-stock products");
+
+        return productReactiveRepository.findByQuantityGreaterThanOrderByIdAsc(0).map(productMapper::toDto);
+    }
+
+    /**
+     * Stream products whose name contains the given fragment.
+     * 
+     * @param name the name fragment to search for
+     * @return flux of matching products
+     */
+    public Flux<ProductDto> streamProductsByName(String name) {
+        log.debug("Streaming products by name: {}", name);
+
+        return productReactiveRepository.findByNameContainingIgnoreCaseOrderByIdAsc(name).map(productMapper::toDto);
+    }
+
+    /**
+     * Stream products within a price range.
+     * 
+     * @param minPrice the minimum price
+     * @param maxPrice the maximum price
+     * @return flux of products within the price range
+     */
+    public Flux<ProductDto> streamProductsByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        log.debug("Streaming products within price range: {} - {}", minPrice, maxPrice);
+
+        return productReactiveRepository.findByPriceBetweenOrderByIdAsc(minPrice, maxPrice).map(productMapper::toDto);
+    }
+}
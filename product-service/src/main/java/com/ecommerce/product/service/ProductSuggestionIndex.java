@@ -0,0 +1,538 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductIndexRow;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory prefix trie for as-you-type product suggestions on names and SKUs.
+ * Every node holds the top-k most popular products below it, so a lookup is a walk
+ * down the prefix with no scan. Popularity is the number of units sold.
+ * Writes are serialised and publish immutable arrays, so lookups never lock. Rebuilds fill
+ * a fresh trie from the shared scan and swap it in whole.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class ProductSuggestionIndex implements ProductIndexRebuilder.RebuildableIndex {
+
+    /**
+     * Number of leading words of a product name that start their own suggestion key.
+     */
+    private static final int MAX_WORD_KEYS = 4;
+
+    /**
+     * Maximum number of IDs per IN query when re-reading products changed during a rebuild.
+     */
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+    /**
+     * Number of times a rebuild re-reads changed products without the write lock before it
+     * takes the lock to catch up on the few changed during the last re-read.
+     */
+    private static final int MAX_CATCH_UP_ROUNDS = 3;
+
+    private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+    private static final Comparator<Suggestion> BY_POPULARITY = Comparator
+            .comparingLong(Suggestion::popularity).reversed()
+            .thenComparing(Suggestion::name, String.CASE_INSENSITIVE_ORDER)
+            .thenComparing(Suggestion::id);
+
+    private final ProductRepository productRepository;
+    private final int topK;
+    private final int maxKeyLength;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile Trie trie = new Trie();
+    private Set<Long> touchedDuringRebuild;
+
+    public ProductSuggestionIndex(ProductRepository productRepository,
+                                  @Value("${product.suggest.top-k:10}") int topK,
+                                  @Value("${product.suggest.max-key-length:20}") int maxKeyLength) {
+        this.productRepository = productRepository;
+        this.topK = topK;
+        this.maxKeyLength = maxKeyLength;
+    }
+
+    /**
+     * Get the most popular products whose name, a word of the name, or SKU starts with the prefix.
+     * Prefixes longer than the indexed key length are matched on the indexed part and then filtered,
+     * so they may return fewer results.
+     * 
+     * @param prefix the typed prefix
+     * @param limit the maximum number of suggestions
+     * @return suggestions, most popular first
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Node node = trie.root;
+        int depth = Math.min(key.length(), maxKeyLength);
+        for (int i = 0; i < depth && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        List<Suggestion> result = new ArrayList<>();
+        for (Suggestion suggestion : node.top) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (key.length() <= maxKeyLength || keysOf(suggestion).stream().anyMatch(k -> k.startsWith(key))) {
+                result.add(suggestion);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Add or refresh a product once the current transaction commits. Its popularity is kept.
+     * 
+     * @param product the saved product
+     */
+    public void putAfterCommit(Product product) {
+        Long id = product.getId();
+        String name = product.getName();
+        String sku = product.getSku();
+        long soldQuantity = product.getSoldQuantity() != null ? product.getSoldQuantity() : 0;
+        afterCommit(() -> update(id, existing ->
+                new Suggestion(id, name, sku, existing != null ? existing.popularity() : soldQuantity)));
+    }
+
+    /**
+     * Remove a product once the current transaction commits.
+     * 
+     * @param id the product ID
+     */
+    public void removeAfterCommit(Long id) {
+        afterCommit(() -> update(id, existing -> null));
+    }
+
+    /**
+     * Raise a product's popularity by the units sold once the current transaction commits.
+     * 
+     * @param id the product ID
+     * @param quantity the units sold
+     */
+    public void recordSaleAfterCommit(Long id, int quantity) {
+        afterCommit(() -> update(id, existing -> existing == null ? null
+                : new Suggestion(id, existing.name(), existing.sku(), existing.popularity() + quantity)));
+    }
+
+    /**
+     * Start building a fresh trie. Sales are increments and cannot be replayed onto a scanned
+     * row that may already include them, so the IDs of products changed during the scan are
+     * recorded instead and re-read from the database before the fresh trie is published. The
+     * re-reads run without the write lock until only the products changed during the last
+     * re-read are left; those are read under the lock, so none is missed.
+     * 
+     * @return the rebuild in progress
+     */
+    @Override
+    public ProductIndexRebuilder.Rebuild startRebuild() {
+        Trie fresh = new Trie();
+        writeLock.lock();
+        try {
+            touchedDuringRebuild = new HashSet<>();
+        } finally {
+            writeLock.unlock();
+        }
+
+        return new ProductIndexRebuilder.Rebuild() {
+
+            @Override
+            public void add(ProductIndexRow row) {
+                fresh.insert(suggestionOf(row));
+            }
+
+            @Override
+            public void publish() {
+                fresh.recomputeAll();
+                Set<Long> pending = drainTouched();
+                for (int round = 0; !pending.isEmpty() && round < MAX_CATCH_UP_ROUNDS; round++) {
+                    fresh.replaceAll(pending, loadIndexRows(pending));
+                    pending = drainTouched();
+                }
+
+                writeLock.lock();
+                try {
+                    pending.addAll(touchedDuringRebuild);
+                    if (!pending.isEmpty()) {
+                        fresh.replaceAll(pending, loadIndexRows(pending));
+                    }
+                    trie = fresh;
+                    log.info("Product suggestion index rebuilt with {} products", fresh.suggestions.size());
+                } finally {
+                    touchedDuringRebuild = null;
+                    writeLock.unlock();
+                }
+            }
+
+            @Override
+            public void abort() {
+                writeLock.lock();
+                try {
+                    touchedDuringRebuild = null;
+                } finally {
+                    writeLock.unlock();
+                }
+            }
+        };
+    }
+
+    /**
+     * Apply a change to the live trie, and record the product if a rebuild is in progress.
+     * 
+     * @param id the product ID
+     * @param change maps the current entry, or null, to the new entry, or null to remove the product
+     */
+    private void update(Long id, UnaryOperator<Suggestion> change) {
+        writeLock.lock();
+        try {
+            Trie live = trie;
+            live.replace(id, change.apply(live.suggestions.get(id)));
+            if (touchedDuringRebuild != null) {
+                touchedDuringRebuild.add(id);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Take the IDs of the products changed since the last call, leaving the rebuild recording.
+     * 
+     * @return the changed product IDs
+     */
+    private Set<Long> drainTouched() {
+        writeLock.lock();
+        try {
+            Set<Long> touched = touchedDuringRebuild;
+            touchedDuringRebuild = new HashSet<>();
+            return touched;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Re-read the index rows of the given products with one IN query per chunk of IDs.
+     * 
+     * @param ids the product IDs
+     * @return map of product ID to row for every product that still exists
+     */
+    private Map<Long, ProductIndexRow> loadIndexRows(Set<Long> ids) {
+        List<Long> pending = new ArrayList<>(ids);
+        Map<Long, ProductIndexRow> rows = new HashMap<>();
+        for (int from = 0; from < pending.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = pending.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, pending.size()));
+            productRepository.findIndexRowsByIdIn(chunk).forEach(row -> rows.put(row.id(), row));
+        }
+        return rows;
+    }
+
+    private static Suggestion suggestionOf(ProductIndexRow row) {
+        return new Suggestion(row.id(), row.name(), row.sku(), row.soldQuantity() != null ? row.soldQuantity() : 0);
+    }
+
+    /**
+     * Get the trie keys of a product: its full name, the name from each of its first words, and its SKU.
+     * 
+     * @param suggestion the product entry
+     * @return the normalised, length-capped keys
+     */
+    private Set<String> keysOf(Suggestion suggestion) {
+        Set<String> keys = new LinkedHashSet<>();
+        String name = normalize(suggestion.name());
+        int start = 0;
+        for (int word = 0; word < MAX_WORD_KEYS && start < name.length(); word++) {
+            keys.add(truncate(name.substring(start)));
+            int space = name.indexOf(' ', start);
+            if (space < 0) {
+                break;
+            }
+            start = space + 1;
+        }
+        String sku = normalize(suggestion.sku());
+        if (!sku.isEmpty()) {
+            keys.add(truncate(sku));
+        }
+        return keys;
+    }
+
+    private String truncate(String key) {
+        return key.length() > maxKeyLength ? key.substring(0, maxKeyLength) : key;
+    }
+
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Run an index update after the current transaction commits, or immediately if there is none.
+     * 
+     * @param update the index update
+     */
+    private void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    /**
+     * Root and entries of one trie. Only modified under the write lock, or before it is published.
+     */
+    private final class Trie {
+
+        private final Node root = new Node();
+        private final Map<Long, Suggestion> suggestions = new HashMap<>();
+
+        /**
+         * Add a product without maintaining top-k lists; used while building, before {@link #recomputeAll}.
+         * 
+         * @param suggestion the product entry
+         */
+        void insert(Suggestion suggestion) {
+            suggestions.put(suggestion.id(), suggestion);
+            for (String key : keysOf(suggestion)) {
+                descend(key, true).addTerminal(suggestion);
+            }
+        }
+
+        /**
+         * Replace the entry of one product and recompute the top-k lists along its old and new key paths.
+         * 
+         * @param id the product ID
+         * @param updated the new entry, or null to remove the product
+         */
+        void replace(Long id, Suggestion updated) {
+            Suggestion previous = updated != null ? suggestions.put(id, updated) : suggestions.remove(id);
+            Set<String> keys = new LinkedHashSet<>();
+            if (previous != null) {
+                for (String key : keysOf(previous)) {
+                    Node node = descend(key, false);
+                    if (node != null) {
+                        node.removeTerminal(id);
+                    }
+                    keys.add(key);
+                }
+            }
+            if (updated != null) {
+                for (String key : keysOf(updated)) {
+                    descend(key, true).addTerminal(updated);
+                    keys.add(key);
+                }
+            }
+            keys.forEach(this::recomputePath);
+        }
+
+        /**
+         * Replace the entries of several products from freshly read rows.
+         * 
+         * @param ids the product IDs
+         * @param rows the rows read for them; a missing row removes the product
+         */
+        void replaceAll(Set<Long> ids, Map<Long, ProductIndexRow> rows) {
+            for (Long id : ids) {
+                ProductIndexRow row = rows.get(id);
+                replace(id, row != null ? suggestionOf(row) : null);
+            }
+        }
+
+        /**
+         * Recompute the top-k lists of the whole trie, children before parents.
+         */
+        void recomputeAll() {
+            Deque<Node> pending = new ArrayDeque<>();
+            Deque<Node> postOrder = new ArrayDeque<>();
+            pending.push(root);
+            while (!pending.isEmpty()) {
+                Node node = pending.pop();
+                postOrder.push(node);
+                for (Node child : node.children.nodes) {
+                    pending.push(child);
+                }
+            }
+            while (!postOrder.isEmpty()) {
+                postOrder.pop().recompute(topK);
+            }
+        }
+
+        /**
+         * Recompute the top-k lists from the end of a key up to the root, pruning emptied nodes.
+         * 
+         * @param key the key whose path changed
+         */
+        private void recomputePath(String key) {
+            Node[] path = new Node[key.length() + 1];
+            path[0] = root;
+            int depth = 0;
+            while (depth < key.length()) {
+                Node child = path[depth].children.get(key.charAt(depth));
+                if (child == null) {
+                    break;
+                }
+                path[++depth] = child;
+            }
+            for (int i = depth; i >= 0; i--) {
+                Node node = path[i];
+                node.recompute(topK);
+                if (i > 0 && node.isEmpty()) {
+                    path[i - 1].children = path[i - 1].children.without(key.charAt(i - 1));
+                }
+            }
+        }
+
+        private Node descend(String key, boolean create) {
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                char c = key.charAt(i);
+                Node child = node.children.get(c);
+                if (child == null) {
+                    if (!create) {
+                        return null;
+                    }
+                    child = new Node();
+                    node.children = node.children.with(c, child);
+                }
+                node = child;
+            }
+            return node;
+        }
+    }
+
+    /**
+     * DTO for one typeahead suggestion.
+     */
+    public record Suggestion(Long id, String name, String sku, long popularity) {
+    }
+
+    /**
+     * Trie node. Terminals are only touched under the write lock; children and top are
+     * replaced with new immutable values so readers always see a consistent snapshot.
+     */
+    private static final class Node {
+
+        private volatile Children children = Children.EMPTY;
+        private volatile Suggestion[] top = NO_SUGGESTIONS;
+        private List<Suggestion> terminals;
+
+        void addTerminal(Suggestion suggestion) {
+            if (terminals == null) {
+                terminals = new ArrayList<>(1);
+            }
+            terminals.removeIf(existing -> existing.id().equals(suggestion.id()));
+            terminals.add(suggestion);
+        }
+
+        void removeTerminal(Long id) {
+            if (terminals != null) {
+                terminals.removeIf(existing -> existing.id().equals(id));
+                if (terminals.isEmpty()) {
+                    terminals = null;
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return terminals == null && children.keys.length == 0;
+        }
+
+        /**
+         * Merge this node's own products with its children's top-k lists.
+         */
+        void recompute(int k) {
+            Map<Long, Suggestion> candidates = new LinkedHashMap<>();
+            if (terminals != null) {
+                terminals.forEach(suggestion -> candidates.put(suggestion.id(), suggestion));
+            }
+            for (Node child : children.nodes) {
+                for (Suggestion suggestion : child.top) {
+                    candidates.putIfAbsent(suggestion.id(), suggestion);
+                }
+            }
+            top = candidates.values().stream()
+                    .sorted(BY_POPULARITY)
+                    .limit(k)
+                    .toArray(Suggestion[]::new);
+        }
+    }
+
+    /**
+     * Immutable, sorted child table of a trie node.
+     */
+    private record Children(char[] keys, Node[] nodes) {
+
+        static final Children EMPTY = new Children(new char[0], new Node[0]);
+
+        Node get(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            return index >= 0 ? nodes[index] : null;
+        }
+
+        Children with(char c, Node node) {
+            int index = -(Arrays.binarySearch(keys, c) + 1);
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newNodes = new Node[nodes.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(nodes, 0, newNodes, 0, index);
+            newKeys[index] = c;
+            newNodes[index] = node;
+            System.arraycopy(keys, index, newKeys, index + 1, keys.length - index);
+            System.arraycopy(nodes, index, newNodes, index + 1, nodes.length - index);
+            return new Children(newKeys, newNodes);
+        }
+
+        Children without(char c) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index < 0) {
+                return this;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newNodes = new Node[nodes.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(nodes, 0, newNodes, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(nodes, index + 1, newNodes, index, nodes.length - index - 1);
+            return new Children(newKeys, newNodes);
+        }
+    }
+}
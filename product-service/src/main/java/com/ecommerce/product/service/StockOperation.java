@@ -0,0 +1,43 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.entity.ProductStockStripe;
+
+/**
+ * Stock operations applied by the reservation API.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+public enum StockOperation {
+
+    RESERVE("Insufficient stock to reserve %d units of product %d"),
+    RELEASE("Cannot release %d units of product %d: not enough stock reserved"),
+    COMMIT("Cannot commit %d units of product %d: not enough stock reserved");
+
+    private final String failureMessage;
+
+    StockOperation(String failureMessage) {
+        this.failureMessage = failureMessage;
+    }
+
+    /**
+     * Describe why the operation could not be applied.
+     * 
+     * @param amount the requested quantity
+     * @param productId the product ID
+     * @return the failure message
+     */
+    public String failureMessage(int amount, Long productId) {
+        return String.format(failureMessage, amount, productId);
+    }
+
+    /**
+     * Get how many units of a stripe this operation can consume.
+     * 
+     * @param stripe the stripe
+     * @return available stock for reservations, reserved stock otherwise
+     */
+    int available(ProductStockStripe stripe) {
+        return this == RESERVE ? stripe.getQuantity() : stripe.getReservedQuantity();
+    }
+}
@@ -0,0 +1,241 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductDto;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.entity.ProductStockStripe;
+import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.repository.ProductStockStripeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sharded inventory for hot products. A striped product's available and reserved stock
+ * is split across stripe rows; reservations start at a random stripe so concurrent
+ * checkouts of the same product mostly lock different rows. The quantity columns on the
+ * product row are a write-behind mirror of the stripe totals, refreshed periodically.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockStripeService {
+
+    /**
+     * Upper bound on the number of stripes a product may be split into.
+     */
+    public static final int MAX_STRIPES = 64;
+
+    private final ProductStockStripeRepository stripeRepository;
+    private final ProductRepository productRepository;
+
+    /**
+     * Apply a stock operation to a striped product. A single stripe that can cover the whole
+     * amount is preferred; otherwise the amount is drained across stripes. Partial updates are
+     * left to the caller's transaction to roll back when this returns false.
+     * 
+     * @param productId the product ID
+     * @param stripes the number of stripes of the product
+     * @param amount the quantity to apply
+     * @param operation the stock operation
+     * @return true if the whole amount was applied
+     */
+    public boolean apply(Long productId, int stripes, int amount, StockOperation operation) {
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+        for (int i = 0; i < stripes; i++) {
+            if (applyToStripe(operation, productId, (start + i) % stripes, amount) == 1) {
+                return true;
+            }
+        }
+
+        int remaining = amount;
+        for (ProductStockStripe stripe : stripeRepository.findByProductIdOrderByStripeIndex(productId)) {
+            int take = Math.min(remaining, operation.available(stripe));
+            if (take > 0 && applyToStripe(operation, productId, stripe.getStripeIndex(), take) == 1) {
+                remaining -= take;
+            }
+            if (remaining == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Split a product's stock across the given number of stripes, or fold it back into the
+     * product row when the count is 0 or 1. Must run in a transaction holding the product row lock.
+     * 
+     * @param product the locked product
+     * @param stripes the new number of stripes
+     * @throws IllegalArgumentException if the stripe count is out of range
+     */
+    public void configure(Product product, int stripes) {
+        if (stripes < 0 || stripes > MAX_STRIPES) {
+            throw new IllegalArgumentException("Stripe count must be between 0 and " + MAX_STRIPES);
+        }
+        collapse(product);
+        if (stripes > 1) {
+            distribute(product, stripes);
+        }
+        log.info("Product {} stock now uses {} stripes", product.getId(), product.getStockStripes());
+    }
+
+    /**
+     * Set the available quantity of a striped product, keeping its current reserved stock
+     * and stripe count. Must run in a transaction holding the product row lock.
+     * 
+     * @param product the locked product
+     * @param quantity the new available quantity
+     */
+    public void setQuantity(Product product, int quantity) {
+        int stripes = product.getStockStripes();
+        collapse(product);
+        product.setQuantity(quantity);
+        distribute(product, stripes);
+    }
+
+    /**
+     * Replace the mirrored quantities of a striped product DTO with the live stripe totals.
+     * 
+     * @param productDto the product DTO
+     * @return the same DTO
+     */
+    public ProductDto withStripeTotals(ProductDto productDto) {
+        if (productDto.getStockStripes() != null && productDto.getStockStripes() > 0) {
+            stripeRepository.sumByProductId(productDto.getId()).ifPresent(totals -> {
+                productDto.setQuantity(Math.toIntExact(totals.getQuantity()));
+                productDto.setReservedQuantity(Math.toIntExact(totals.getReservedQuantity()));
+            });
+        }
+        return productDto;
+    }
+
+    /**
+     * Replace the mirrored quantities of any striped products in a list with the live
+     * stripe totals, using a single grouped query.
+     * 
+     * @param productDtos the product DTOs
+     * @return the same list
+     */
+    public List<ProductDto> withStripeTotals(List<ProductDto> productDtos) {
+        List<Long> stripedIds = productDtos.stream()
+                .filter(productDto -> productDto.getStockStripes() != null && productDto.getStockStripes() > 0)
+                .map(ProductDto::getId)
+                .toList();
+        if (stripedIds.isEmpty()) {
+            return productDtos;
+        }
+
+        Map<Long, ProductStockStripeRepository.StripeTotals> totals = stripeRepository.sumByProductIdIn(stripedIds)
+                .stream()
+                .collect(Collectors.toMap(ProductStockStripeRepository.StripeTotals::getProductId, Function.identity()));
+        for (ProductDto productDto : productDtos) {
+            ProductStockStripeRepository.StripeTotals productTotals = totals.get(productDto.getId());
+            if (productTotals != null) {
+                productDto.setQuantity(Math.toIntExact(productTotals.getQuantity()));
+                productDto.setReservedQuantity(Math.toIntExact(productTotals.getReservedQuantity()));
+            }
+        }
+        return productDtos;
+    }
+
+    /**
+     * Get the available quantity of a striped product, summed over its stripes.
+     * 
+     * @param productId the product ID
+     * @return the available quantity, or 0 if the product has no stripes
+     */
+    public int availableQuantity(Long productId) {
+        return stripeRepository.sumByProductId(productId)
+                .map(totals -> Math.toIntExact(totals.getQuantity()))
+                .orElse(0);
+    }
+
+    /**
+     * Delete the stripes of a product being removed.
+     * 
+     * @param productId the product ID
+     */
+    public void deleteStripes(Long productId) {
+        stripeRepository.deleteByProductId(productId);
+    }
+
+    /**
+     * Copy the stripe totals of every striped product onto its product row, so that
+     * list and in-stock queries see stock that is at most one interval old.
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${product.stock.stripe-sync-interval:PT1S}")
+    public void syncStripeTotals() {
+        int synced = productRepository.syncStripedStockTotals();
+        if (synced > 0) {
+            log.debug("Synced stripe totals for {} striped products", synced);
+        }
+    }
+
+    /**
+     * Move any striped stock back onto the product row and remove the stripes. The stripe rows
+     * are locked before they are summed, so reservations in flight are counted once they commit
+     * and later ones wait and then retry against the new layout.
+     * 
+     * @param product the locked product
+     */
+    private void collapse(Product product) {
+        if (product.getStockStripes() == 0) {
+            return;
+        }
+        List<ProductStockStripe> stripes = stripeRepository.findByProductIdForUpdate(product.getId());
+        if (!stripes.isEmpty()) {
+            product.setQuantity(stripes.stream().mapToInt(ProductStockStripe::getQuantity).sum());
+            product.setReservedQuantity(stripes.stream().mapToInt(ProductStockStripe::getReservedQuantity).sum());
+            product.setSoldQuantity(stripes.stream().mapToLong(ProductStockStripe::getSoldQuantity).sum());
+        }
+        stripeRepository.deleteByProductId(product.getId());
+        product.setStockStripes(0);
+    }
+
+    /**
+     * Spread the product row's stock evenly across new stripes. The sold count so far goes
+     * to the first stripe. The product row keeps the totals as its mirror.
+     * 
+     * @param product the product with no stripes
+     * @param stripes the number of stripes to create
+     */
+    private void distribute(Product product, int stripes) {
+        List<ProductStockStripe> rows = new ArrayList<>(stripes);
+        for (int i = 0; i < stripes; i++) {
+            rows.add(ProductStockStripe.builder()
+                    .productId(product.getId())
+                    .stripeIndex(i)
+                    .quantity(share(product.getQuantity(), stripes, i))
+                    .reservedQuantity(share(product.getReservedQuantity(), stripes, i))
+                    .soldQuantity(i == 0 ? product.getSoldQuantity() : 0L)
+                    .build());
+        }
+        stripeRepository.saveAll(rows);
+        product.setStockStripes(stripes);
+    }
+
+    private int applyToStripe(StockOperation operation, Long productId, int stripeIndex, int amount) {
+        return switch (operation) {
+            case RESERVE -> stripeRepository.reserveStock(productId, stripeIndex, amount);
+            case RELEASE -> stripeRepository.releaseStock(productId, stripeIndex, amount);
+            case COMMIT -> stripeRepository.commitStock(productId, stripeIndex, amount);
+        };
+    }
+
+    private static int share(int total, int stripes, int index) {
+        return total / stripes + (index < total % stripes ? 1 : 0);
+    }
+}
@@ -0,0 +1,39 @@
+-- Product Service schema
+
+CREATE SEQUENCE products_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE product_stock_stripes_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE products (
+    id                BIGINT         NOT NULL PRIMARY KEY,
+    name              VARCHAR(100)   NOT NULL,
+    description       VARCHAR(500),
+    price             NUMERIC(10, 2) NOT NULL,
+    quantity          INTEGER        NOT NULL,
+    reserved_quantity INTEGER        DEFAULT 0 NOT NULL,
+    sold_quantity     BIGINT         DEFAULT 0 NOT NULL,
+    stock_stripes     INTEGER        DEFAULT 0 NOT NULL,
+    category          VARCHAR(255),
+    sku               VARCHAR(50),
+    created_at        TIMESTAMP(6)   NOT NULL,
+    updated_at        TIMESTAMP(6),
+    CONSTRAINT uk_products_sku UNIQUE (sku)
+);
+
+CREATE TABLE product_stock_stripes (
+    id                BIGINT  NOT NULL PRIMARY KEY,
+    product_id        BIGINT  NOT NULL,
+    stripe_index      INTEGER NOT NULL,
+    quantity          INTEGER NOT NULL,
+    reserved_quantity INTEGER NOT NULL,
+    sold_quantity     BIGINT  NOT NULL,
+    CONSTRAINT uk_product_stock_stripes_product_stripe UNIQUE (product_id, stripe_index)
+);
+
+-- findByCategory and category/price filters
+CREATE INDEX idx_products_category_price ON products (category, price);
+-- findByPriceBetween and price-only filters
+CREATE INDEX idx_products_price ON products (price);
+-- findInStockProducts, findInStockProductIds
+CREATE INDEX idx_products_quantity ON products (quantity);
+-- syncStripedStockTotals only touches striped products
+CREATE INDEX idx_products_stock_stripes ON products (stock_stripes);
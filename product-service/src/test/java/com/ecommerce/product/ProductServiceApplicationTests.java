@@ -0,0 +1,89 @@
+package com.ecommerce.product;
+
+import com.ecommerce.product.dto.ProductDto;
+import com.ecommerce.product.service.ProductService;
+import com.ecommerce.product.service.ProductStreamService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the application context starts with the JDBC data source wiring of
+ * {@link com.ecommerce.product.config.DataSourceConfig} next to the R2DBC connection factory,
+ * and that both access paths see the same database.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+class ProductServiceApplicationTests {
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ConnectionFactory connectionFactory;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductStreamService productStreamService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM products");
+    }
+
+    @Test
+    void contextLoadsWithJdbcDataSource() {
+        assertThat(dataSourceProperties.getUrl()).isEqualTo("jdbc:h2:mem:testdb");
+        assertThat(primaryDataSource.getJdbcUrl()).isEqualTo("jdbc:h2:mem:testdb");
+        assertThat(primaryDataSource.getPoolName()).isEqualTo("product-pool");
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(entityManagerFactory.isOpen()).isTrue();
+    }
+
+    @Test
+    void reactiveReadsSeeProductsWrittenThroughJpa() {
+        assertThat(connectionFactory).isNotNull();
+        ProductDto created = productService.createProduct(ProductDto.builder()
+                .name("Streamed product")
+                .price(new BigDecimal("4.50"))
+                .quantity(3)
+                .category("Streaming")
+                .build());
+
+        List<ProductDto> streamed = productStreamService.streamProductsByCategory("Streaming").collectList().block();
+
+        assertThat(streamed).extracting(ProductDto::getId).containsExactly(created.getId());
+        assertThat(streamed).extracting(ProductDto::getName).containsExactly("Streamed product");
+    }
+}
@@ -0,0 +1,59 @@
+package com.ecommerce.product.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that read-only transactions are served by the replica and all others by the primary.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+class ReadOnlyRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1", "sa", "");
+        DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1", "sa", "");
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReadOnlyRoutingDataSource(primary, replica));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        transactionTemplate.setReadOnly(true);
+
+        String database = transactionTemplate.execute(status -> currentDatabase());
+
+        assertThat(database).isEqualTo("ROUTING_REPLICA");
+    }
+
+    @Test
+    void readWriteTransactionUsesPrimary() {
+        String database = transactionTemplate.execute(status -> currentDatabase());
+
+        assertThat(database).isEqualTo("ROUTING_PRIMARY");
+    }
+
+    @Test
+    void noTransactionUsesPrimary() {
+        assertThat(currentDatabase()).isEqualTo("ROUTING_PRIMARY");
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+}
@@ -0,0 +1,148 @@
+package com.ecommerce.product.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs every filtered product and stock-stripe query through H2's EXPLAIN and fails if any table
+ * in the plan is read with a full table scan. For JPA repositories the SQL explained is the SQL
+ * Hibernate generated for the call, recorded by {@link RecordingStatementInspector}; for the R2DBC
+ * finders it is the statement Spring Data derives from the method name.
+ * <p>
+ * Not covered, because they read every row by design: the unfiltered {@code findAll} and
+ * {@code findAllProjectedBy}, the reactive {@code findAllByOrderByIdAsc}, and the
+ * {@code NameContainingIgnoreCase} searches, whose leading wildcard no B-tree index can serve.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.ecommerce.product.repository.RecordingStatementInspector")
+class ProductRepositoryQueryPlanTest {
+
+    private static final BigDecimal MIN_PRICE = new BigDecimal("10.00");
+    private static final BigDecimal MAX_PRICE = new BigDecimal("50.00");
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockStripeRepository stripeRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void productLookups() {
+        assertNoTableScan(() -> productRepository.findById(1L));
+        assertNoTableScan(() -> productRepository.findBySku("SKU-1"));
+        assertNoTableScan(() -> productRepository.existsBySku("SKU-1"));
+        assertNoTableScan(() -> productRepository.findBySkuIn(List.of("SKU-1", "SKU-2")));
+        assertNoTableScan(() -> productRepository.findStockStripesById(1L));
+        assertNoTableScan(() -> productRepository.findQuantityById(1L));
+    }
+
+    @Test
+    void productFilters() {
+        assertNoTableScan(() -> productRepository.findByCategory("Electronics"));
+        assertNoTableScan(() -> productRepository.findInStockProducts());
+        assertNoTableScan(() -> productRepository.findInStockProductIds());
+        assertNoTableScan(() -> productRepository.findByPriceBetween(MIN_PRICE, MAX_PRICE));
+        assertNoTableScan(() -> productRepository.findAll(Specification
+                .where(ProductSpecifications.hasCategory("Electronics"))
+                .and(ProductSpecifications.priceAtLeast(MIN_PRICE))
+                .and(ProductSpecifications.priceAtMost(MAX_PRICE)), PageRequest.ofSize(20)));
+    }
+
+    @Test
+    void indexRowScans() {
+        assertNoTableScan(() -> productRepository.findIndexRowsAfter(0L, PageRequest.ofSize(1000)));
+        assertNoTableScan(() -> productRepository.findIndexRowsByIdIn(List.of(1L, 2L)));
+    }
+
+    @Test
+    void lockingReadsAndStockUpdates() {
+        assertNoTableScan(() -> transactionTemplate.executeWithoutResult(status -> {
+            productRepository.findByIdForUpdate(1L);
+            productRepository.findBySkuInForUpdate(List.of("SKU-1", "SKU-2"));
+            productRepository.reserveStock(1L, 1);
+            productRepository.releaseStock(1L, 1);
+            productRepository.commitStock(1L, 1);
+            productRepository.syncStripedStockTotals();
+        }));
+    }
+
+    @Test
+    void stockStripes() {
+        assertNoTableScan(() -> stripeRepository.findByProductIdOrderByStripeIndex(1L));
+        assertNoTableScan(() -> stripeRepository.sumByProductId(1L));
+        assertNoTableScan(() -> stripeRepository.sumByProductIdIn(List.of(1L, 2L)));
+        assertNoTableScan(() -> transactionTemplate.executeWithoutResult(status -> {
+            stripeRepository.findByProductIdForUpdate(1L);
+            stripeRepository.reserveStock(1L, 0, 1);
+            stripeRepository.releaseStock(1L, 0, 1);
+            stripeRepository.commitStock(1L, 0, 1);
+            stripeRepository.deleteByProductId(1L);
+        }));
+    }
+
+    @Test
+    void reactiveFinders() {
+        assertThat(explain("SELECT products.* FROM products WHERE products.category = ? ORDER BY products.id ASC"))
+                .doesNotContain(".tableScan");
+        assertThat(explain("SELECT products.* FROM products WHERE products.quantity > ? ORDER BY products.id ASC"))
+                .doesNotContain(".tableScan");
+        assertThat(explain("SELECT products.* FROM products WHERE products.price BETWEEN ? AND ? ORDER BY products.id ASC"))
+                .doesNotContain(".tableScan");
+    }
+
+    private void assertNoTableScan(Runnable query) {
+        RecordingStatementInspector.start();
+        query.run();
+        List<String> statements = RecordingStatementInspector.stop();
+
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements) {
+            assertThat(explain(sql)).as(sql).doesNotContain(".tableScan");
+        }
+    }
+
+    /**
+     * Get H2's plan for a statement. Parameters are bound to NULL; the plan does not depend on them.
+     * 
+     * @param sql the statement
+     * @return the plan
+     */
+    private String explain(String sql) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+            try (ResultSet plan = statement.executeQuery()) {
+                plan.next();
+                return plan.getString(1);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to explain: " + sql, e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.product.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the SQL Hibernate prepares on the calling thread between {@link #start()} and {@link #stop()},
+ * so tests can inspect the statements a repository method actually issues.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    /**
+     * Start recording statements prepared on the current thread.
+     */
+    static void start() {
+        RECORDED.set(new ArrayList<>());
+    }
+
+    /**
+     * Stop recording on the current thread.
+     * 
+     * @return the statements prepared since {@link #start()}, in order
+     */
+    static List<String> stop() {
+        List<String> recorded = RECORDED.get();
+        RECORDED.remove();
+        return recorded;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        List<String> recorded = RECORDED.get();
+        if (recorded != null) {
+            recorded.add(sql);
+        }
+        return sql;
+    }
+}
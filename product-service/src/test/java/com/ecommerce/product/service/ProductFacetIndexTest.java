@@ -0,0 +1,113 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductIndexRow;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that rebuilding the facet index swaps in complete bitmaps and keeps changes made during the scan,
+ * and that stock flags follow reservations and the reconcile.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+class ProductFacetIndexTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductFacetIndex index = new ProductFacetIndex(productRepository,
+            List.of(new BigDecimal("10"), new BigDecimal("50")));
+
+    @Test
+    void liveBitmapsKeepServingUntilRebuildIsPublished() {
+        index.putAfterCommit(product(1L, "Chairs", "19.99", 3));
+
+        ProductIndexRebuilder.Rebuild rebuild = index.startRebuild();
+        rebuild.add(row(2L, "Tables", "79.00", 0));
+
+        assertThat(query().productIds()).containsExactly(1L);
+
+        rebuild.publish();
+
+        ProductFacetIndex.FacetCounts counts = query();
+        assertThat(counts.productIds()).containsExactly(2L);
+        assertThat(counts.categories()).containsOnlyKeys("Tables");
+        assertThat(counts.priceBuckets()).containsEntry("50+", 1L);
+        assertThat(counts.stock()).containsEntry("outOfStock", 1L);
+    }
+
+    @Test
+    void changesCommittedDuringRebuildAreReplayed() {
+        ProductIndexRebuilder.Rebuild rebuild = index.startRebuild();
+        rebuild.add(row(1L, "Chairs", "19.99", 3));
+        rebuild.add(row(2L, "Chairs", "29.99", 1));
+        // An update of product 1 and the deletion of product 2 commit after the scan read them
+        index.putAfterCommit(product(1L, "Tables", "5.00", 0));
+        index.removeAfterCommit(2L);
+        index.putAfterCommit(product(3L, "Lamps", "12.00", 4));
+
+        rebuild.publish();
+
+        ProductFacetIndex.FacetCounts counts = query();
+        assertThat(counts.productIds()).containsExactly(1L, 3L);
+        assertThat(counts.categories()).containsOnlyKeys("Tables", "Lamps");
+        assertThat(counts.priceBuckets()).containsEntry("0-10", 1L).containsEntry("10-50", 1L);
+        assertThat(counts.stock()).containsEntry("inStock", 1L).containsEntry("outOfStock", 1L);
+    }
+
+    @Test
+    void abortedRebuildLeavesLiveBitmapsInPlace() {
+        index.putAfterCommit(product(1L, "Chairs", "19.99", 3));
+
+        ProductIndexRebuilder.Rebuild rebuild = index.startRebuild();
+        rebuild.add(row(2L, "Tables", "79.00", 0));
+        rebuild.abort();
+        index.putAfterCommit(product(3L, "Lamps", "12.00", 4));
+
+        assertThat(query().productIds()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void stockFlagIsSetWithoutReindexingTheProduct() {
+        index.putAfterCommit(product(1L, "Chairs", "19.99", 3));
+        index.setInStockAfterCommit(2L, true);
+
+        index.setInStockAfterCommit(1L, false);
+
+        ProductFacetIndex.FacetCounts counts = query();
+        assertThat(counts.productIds()).containsExactly(1L);
+        assertThat(counts.categories()).containsEntry("Chairs", 1L);
+        assertThat(counts.stock()).containsEntry("inStock", 0L).containsEntry("outOfStock", 1L);
+    }
+
+    @Test
+    void reconcileCorrectsDriftedStockFlags() {
+        index.putAfterCommit(product(1L, "Chairs", "19.99", 3));
+        index.putAfterCommit(product(2L, "Chairs", "29.99", 0));
+        when(productRepository.findInStockProductIds()).thenReturn(List.of(2L, 4L));
+
+        index.reconcileStock();
+
+        assertThat(index.query(List.of(), List.of(), true, 0, 10).productIds()).containsExactly(2L);
+    }
+
+    private ProductFacetIndex.FacetCounts query() {
+        return index.query(List.of(), List.of(), null, 0, 10);
+    }
+
+    private static Product product(Long id, String category, String price, int quantity) {
+        return Product.builder().id(id).name("Product " + id).category(category)
+                .price(new BigDecimal(price)).quantity(quantity).build();
+    }
+
+    private static ProductIndexRow row(Long id, String category, String price, int quantity) {
+        return new ProductIndexRow(id, "Product " + id, null, category, "SKU-" + id, new BigDecimal(price), quantity, 0L);
+    }
+}
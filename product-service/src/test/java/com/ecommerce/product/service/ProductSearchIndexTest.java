@@ -0,0 +1,75 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductIndexRow;
+import com.ecommerce.product.entity.Product;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that rebuilding the search index swaps in a complete index and keeps changes made during the scan.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+class ProductSearchIndexTest {
+
+    private final ProductSearchIndex index = new ProductSearchIndex();
+
+    @AfterEach
+    void tearDown() {
+        index.close();
+    }
+
+    @Test
+    void liveIndexKeepsServingUntilRebuildIsPublished() {
+        index.indexAfterCommit(product(1L, "Walnut desk"));
+        index.refresh();
+
+        ProductIndexRebuilder.Rebuild rebuild = index.startRebuild();
+        rebuild.add(row(2L, "Walnut shelf"));
+        index.refresh();
+
+        assertThat(index.search("walnut", 10)).containsExactly(1L);
+
+        rebuild.publish();
+
+        assertThat(index.search("walnut", 10)).containsExactly(2L);
+    }
+
+    @Test
+    void changesCommittedDuringRebuildAreReplayed() {
+        ProductIndexRebuilder.Rebuild rebuild = index.startRebuild();
+        rebuild.add(row(1L, "Oak chair"));
+        rebuild.add(row(2L, "Oak table"));
+        // Committed after the scan read the stale rows
+        index.indexAfterCommit(product(1L, "Maple chair"));
+        index.removeAfterCommit(2L);
+        rebuild.publish();
+
+        assertThat(index.search("oak", 10)).isEmpty();
+        assertThat(index.search("maple", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void abortedRebuildLeavesLiveIndexInPlace() {
+        index.indexAfterCommit(product(1L, "Cedar bench"));
+        ProductIndexRebuilder.Rebuild rebuild = index.startRebuild();
+        rebuild.abort();
+        index.indexAfterCommit(product(2L, "Cedar stool"));
+        index.refresh();
+
+        assertThat(index.search("cedar", 10)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    private static Product product(Long id, String name) {
+        return Product.builder().id(id).name(name).category("Furniture").sku("SKU-" + id).build();
+    }
+
+    private static ProductIndexRow row(Long id, String name) {
+        return new ProductIndexRow(id, name, null, "Furniture", "SKU-" + id, new BigDecimal("10.00"), 1, 0L);
+    }
+}
@@ -0,0 +1,111 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductDto;
+import com.ecommerce.product.dto.StockReservationDto;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.repository.ProductRepository;
+import com.ecommerce.product.repository.ProductStockStripeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that reserving and then committing stock moves units from available to reserved
+ * to sold, on the product row and on stock stripes, counts the sale in the suggestions and keeps
+ * the facet stock flag in step.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+@SpringBootTest
+class ProductStockServiceTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductStockStripeRepository stripeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product_stock_stripes");
+        jdbcTemplate.update("DELETE FROM products");
+    }
+
+    @Test
+    void reservedStockIsCommittedAsSold() {
+        ProductDto created = createProduct("Reserved lamp", 10);
+
+        productService.reserveStock(reservation(created.getId(), 3));
+        productService.commitStock(reservation(created.getId(), 2));
+
+        Product product = productRepository.findById(created.getId()).orElseThrow();
+        assertThat(product.getQuantity()).isEqualTo(7);
+        assertThat(product.getReservedQuantity()).isEqualTo(1);
+        assertThat(product.getSoldQuantity()).isEqualTo(2L);
+        assertThat(productService.suggestProducts("reserved", 10))
+                .extracting(ProductSuggestionIndex.Suggestion::popularity)
+                .containsExactly(2L);
+    }
+
+    @Test
+    void reservingTheLastUnitsTakesTheProductOutOfStockInFacets() {
+        ProductDto created = createProduct("Last lamp", 2);
+
+        productService.reserveStock(reservation(created.getId(), 2));
+
+        assertThat(inStockProductIds()).doesNotContain(created.getId());
+
+        productService.releaseStock(reservation(created.getId(), 1));
+
+        assertThat(inStockProductIds()).contains(created.getId());
+    }
+
+    @Test
+    void reservedStockIsCommittedAsSoldOnStripes() {
+        ProductDto created = createProduct("Striped lamp", 10);
+        productService.updateStockStripes(created.getId(), 4);
+
+        productService.reserveStock(reservation(created.getId(), 3));
+        productService.commitStock(reservation(created.getId(), 3));
+
+        ProductDto product = productService.getProductById(created.getId());
+        assertThat(product.getQuantity()).isEqualTo(7);
+        assertThat(product.getReservedQuantity()).isEqualTo(0);
+        assertThat(stripeRepository.sumByProductId(created.getId()).orElseThrow().getSoldQuantity()).isEqualTo(3L);
+    }
+
+    private List<Long> inStockProductIds() {
+        return productService.browseProducts(List.of("Lighting"), List.of(), true, 0, 10).products().stream()
+                .map(ProductDto::getId)
+                .toList();
+    }
+
+    private ProductDto createProduct(String name, int quantity) {
+        return productService.createProduct(ProductDto.builder()
+                .name(name)
+                .price(new BigDecimal("12.00"))
+                .quantity(quantity)
+                .category("Lighting")
+                .build());
+    }
+
+    private static StockReservationDto reservation(Long productId, int quantity) {
+        return StockReservationDto.builder()
+                .lines(List.of(StockReservationDto.Line.builder().productId(productId).quantity(quantity).build()))
+                .build();
+    }
+}
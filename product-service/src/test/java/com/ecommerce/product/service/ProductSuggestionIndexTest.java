@@ -0,0 +1,98 @@
+package com.ecommerce.product.service;
+
+import com.ecommerce.product.dto.ProductIndexRow;
+import com.ecommerce.product.entity.Product;
+import com.ecommerce.product.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that rebuilding the suggestion trie swaps in a complete trie and re-reads products changed during the scan.
+ * 
+ * @author E-commerce Team
+ * @version 1.0.0
+ */
+class ProductSuggestionIndexTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductSuggestionIndex index = new ProductSuggestionIndex(productRepository, 10, 20);
+
+    @Test
+    void liveTrieKeepsServingUntilRebuildIsPublished() {
+        index.putAfterCommit(product(1L, "Walnut desk", 0L));
+
+        ProductIndexRebuilder.Rebuild rebuild = index.startRebuild();
+        rebuild.add(row(2L, "Walnut shelf", 3L));
+
+        assertThat(ids(index.suggest("wal", 10))).containsExactly(1L);
+
+        rebuild.publish();
+
+        assertThat(ids(index.suggest("wal", 10))).containsExactly(2L);
+        verify(productRepository, never()).findIndexRowsByIdIn(anyCollection());
+    }
+
+    @Test
+    void productsChangedDuringRebuildAreReadAgain() {
+        ProductIndexRebuilder.Rebuild rebuild = index.startRebuild();
+        rebuild.add(row(1L, "Oak chair", 2L));
+        rebuild.add(row(2L, "Oak table", 7L));
+        // A sale of product 1 and the deletion of product 2 commit after the scan read them
+        index.recordSaleAfterCommit(1L, 5);
+        index.removeAfterCommit(2L);
+        when(productRepository.findIndexRowsByIdIn(argThat(ids -> Set.copyOf(ids).equals(Set.of(1L, 2L)))))
+                .thenReturn(List.of(row(1L, "Oak chair", 7L)));
+
+        rebuild.publish();
+
+        List<ProductSuggestionIndex.Suggestion> suggestions = index.suggest("oak", 10);
+        assertThat(ids(suggestions)).containsExactly(1L);
+        assertThat(suggestions.get(0).popularity()).isEqualTo(7L);
+    }
+
+    @Test
+    void changedProductsAreReadAgainWithoutBlockingWriters() throws Exception {
+        ProductIndexRebuilder.Rebuild rebuild = index.startRebuild();
+        rebuild.add(row(1L, "Oak chair", 2L));
+        index.recordSaleAfterCommit(1L, 5);
+        // Another sale commits while the first re-read is running; it must not wait for the publish
+        when(productRepository.findIndexRowsByIdIn(anyCollection()))
+                .thenAnswer(invocation -> {
+                    Thread writer = new Thread(() -> index.recordSaleAfterCommit(1L, 1));
+                    writer.start();
+                    writer.join(5000);
+                    assertThat(writer.isAlive()).isFalse();
+                    return List.of(row(1L, "Oak chair", 7L));
+                })
+                .thenReturn(List.of(row(1L, "Oak chair", 8L)));
+
+        rebuild.publish();
+
+        assertThat(index.suggest("oak", 10).get(0).popularity()).isEqualTo(8L);
+        verify(productRepository, times(2)).findIndexRowsByIdIn(anyCollection());
+    }
+
+    private static List<Long> ids(List<ProductSuggestionIndex.Suggestion> suggestions) {
+        return suggestions.stream().map(ProductSuggestionIndex.Suggestion::id).toList();
+    }
+
+    private static Product product(Long id, String name, Long soldQuantity) {
+        return Product.builder().id(id).name(name).sku("SKU-" + id).soldQuantity(soldQuantity).build();
+    }
+
+    private static ProductIndexRow row(Long id, String name, Long soldQuantity) {
+        return new ProductIndexRow(id, name, null, "Furniture", "SKU-" + id, new BigDecimal("10.00"), 1, soldQuantity);
+    }
+}